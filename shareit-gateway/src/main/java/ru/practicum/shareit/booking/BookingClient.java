@@ -10,6 +10,7 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -26,22 +27,28 @@ public class BookingClient extends BaseClient {
         );
     }
 
-    public ResponseEntity<Object> getBookings(long userId, String state, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getBookings(long userId, String state, Long from, Long size, String cursor) {
+        return get("?" + pageQuery(cursor), userId, pageParameters(state, from, size, cursor));
     }
 
-    public ResponseEntity<Object> getBookingsOwner(long userId, String state, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state,
-                "from", from,
-                "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getBookingsOwner(long userId, String state, Long from, Long size, String cursor) {
+        return get("/owner?" + pageQuery(cursor), userId, pageParameters(state, from, size, cursor));
+    }
+
+    private String pageQuery(String cursor) {
+        String query = "state={state}&from={from}&size={size}";
+        return cursor == null ? query : query + "&cursor={cursor}";
+    }
+
+    private Map<String, Object> pageParameters(String state, Long from, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state);
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 
     public ResponseEntity<Object> saveBooking(BookingResearchDto requestDto, long userId) {
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
 
 
 @Slf4j
@@ -43,27 +45,25 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> getBookingsToBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                        @RequestParam(defaultValue = "ALL") String state,
-                                                        @RequestParam(defaultValue = "0") @Min(0) Long from,
-                                                        @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
-            log.info("Получение запросов на бронирование для пользователя с id = {} " +
-                    "state:{} , from = {}, size = {}", userId, state, from, size);
-            return bookingClient.getBookings(userId, state, from, size);
+                                                      @RequestParam(defaultValue = "ALL") String state,
+                                                      @RequestParam(defaultValue = "0") @Min(0) Long from,
+                                                      @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+                                                      @RequestParam(required = false)
+                                                      @Pattern(regexp = "[A-Za-z0-9_-]*") String cursor) {
+        log.info("Получение запросов на бронирование для пользователя с id = {} " +
+                "state:{} , from = {}, size = {}, cursor = {}", userId, state, from, size, cursor);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
     }
 
     @GetMapping(value = "/owner")
     public ResponseEntity<Object> getBookingsToOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
                                                      @RequestParam(defaultValue = "ALL") String state,
                                                      @RequestParam(defaultValue = "0") @Min(0) Long from,
-                                                     @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
-            log.info("Получение запросов на бронирование других пользователей для пользователя с id = {}" +
-                    " state:{} , from = {}, size = {}", userId, state, from, size);
-            return bookingClient.getBookingsOwner(userId, state, from, size);
-        }
+                                                     @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+                                                     @RequestParam(required = false)
+                                                     @Pattern(regexp = "[A-Za-z0-9_-]*") String cursor) {
+        log.info("Получение запросов на бронирование других пользователей для пользователя с id = {}" +
+                " state:{} , from = {}, size = {}, cursor = {}", userId, state, from, size, cursor);
+        return bookingClient.getBookingsOwner(userId, state, from, size, cursor);
+    }
 }
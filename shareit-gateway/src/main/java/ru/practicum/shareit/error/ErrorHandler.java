@@ -2,9 +2,11 @@ package ru.practicum.shareit.error;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpStatusCodeException;
 
 import javax.validation.ValidationException;
 
@@ -19,4 +21,13 @@ public class ErrorHandler {
         log.info("{}", exception.getMessage());
         return new ErrorResponse(exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler
+    public ResponseEntity<byte[]> handlerHttpStatusCodeException(final HttpStatusCodeException exception) {
+        log.info("Сервер вернул ошибку {}", exception.getStatusCode());
+        return ResponseEntity.status(exception.getStatusCode())
+                .headers(headers -> headers.setContentType(exception.getResponseHeaders() == null
+                        ? null : exception.getResponseHeaders().getContentType()))
+                .body(exception.getResponseBodyAsByteArray());
+    }
+}
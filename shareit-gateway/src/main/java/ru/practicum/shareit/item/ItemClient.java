@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,10 @@ import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentResearchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
 
 @Service
 public class ItemClient extends BaseClient {
@@ -21,7 +26,11 @@ public class ItemClient extends BaseClient {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> {
+                            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
+                            factory.setBufferRequestBody(false);
+                            return factory;
+                        })
                         .build()
         );
     }
@@ -30,6 +39,10 @@ public class ItemClient extends BaseClient {
         return post("", userId, requestDto);
     }
 
+    public void saveItems(InputStream body, MediaType contentType, long userId, OutputStream output) {
+        postStreaming("/bulk", userId, contentType, body, output);
+    }
+
     public ResponseEntity<Object> saveComment(long itemId, long userId, CommentResearchDto requestDto) {
         return post("/" + itemId + "/comment", userId, requestDto);
     }
@@ -42,8 +55,21 @@ public class ItemClient extends BaseClient {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> searchItem(String text, long userId) {
-        return get("/search?text=" + text, userId);
+    public ResponseEntity<Object> searchItem(String text, long userId, Long from, Long size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> autocompleteItem(String prefix, long userId, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "prefix", prefix,
+                "size", size
+        );
+        return get("/autocomplete?prefix={prefix}&size={size}", userId, parameters);
     }
 
     public ResponseEntity<Object> updateItem(ItemDto requestDto, long userId, long itemId) {
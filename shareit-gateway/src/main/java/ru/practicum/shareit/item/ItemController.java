@@ -2,19 +2,27 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.item.dto.CommentResearchDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.InputStream;
 import java.util.ArrayList;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/items")
+@Validated
 public class ItemController {
     private final ItemClient itemClient;
 
@@ -25,6 +33,15 @@ public class ItemController {
         return itemClient.saveItem(itemDto, userId);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> saveItems(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        log.info("Массовое сохранение вещей пользователя с id = {}", userId);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(output -> itemClient.saveItems(body, contentType, userId, output));
+    }
+
     @GetMapping(value = "/{itemId}")
     public ResponseEntity<Object> getItem(@RequestHeader("X-Sharer-User-Id") Long userId,
                                           @PathVariable Long itemId) {
@@ -47,12 +64,26 @@ public class ItemController {
 
     @GetMapping(value = "/search")
     public ResponseEntity<Object> getItemToSearch(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                  @RequestParam (defaultValue = "") String text) {
-        log.info("Поиск вещи пользователя с id = {} по запросу - {}", userId, text);
-        if (text.isBlank() || text.contains(" ")) {
+                                                  @RequestParam (defaultValue = "") String text,
+                                                  @RequestParam(defaultValue = "0") @Min(0) Long from,
+                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size) {
+        log.info("Поиск вещи пользователя с id = {} по запросу - {}, from = {}, size = {}", userId, text, from, size);
+        if (text.isBlank()) {
+            return new ResponseEntity<>(new ArrayList<>(), HttpStatus.OK);
+        }
+        return itemClient.searchItem(text, userId, from, size);
+    }
+
+    @GetMapping(value = "/autocomplete")
+    public ResponseEntity<Object> getItemAutocomplete(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                      @RequestParam(defaultValue = "") String prefix,
+                                                      @RequestParam(defaultValue = "10") @Min(1) @Max(20) Integer size) {
+        log.info("Подсказки названий вещей для пользователя с id = {} по префиксу - {}, size = {}", userId, prefix,
+                size);
+        if (prefix.isBlank()) {
             return new ResponseEntity<>(new ArrayList<>(), HttpStatus.OK);
         }
-        return itemClient.searchItem(text, userId);
+        return itemClient.autocompleteItem(prefix, userId, size);
     }
 
     @PostMapping(value = "/{itemId}/comment")
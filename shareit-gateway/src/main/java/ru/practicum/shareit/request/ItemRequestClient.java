@@ -10,6 +10,7 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -26,12 +27,15 @@ public class ItemRequestClient extends BaseClient {
         );
     }
 
-    public ResponseEntity<Object> getRequestsToAnotherUsers(long userId, Long from, Long size) {
-        Map<String, Object> parameters = Map.of(
-                "from", from,
-                "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+    public ResponseEntity<Object> getRequestsToAnotherUsers(long userId, Long from, Long size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get("/all?from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/all?from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 
     public ResponseEntity<Object> getRequestsToUser(long userId) {
@@ -45,4 +49,8 @@ public class ItemRequestClient extends BaseClient {
     public ResponseEntity<Object> getRequest(long userId, Long requestId) {
         return get("/" + requestId, userId);
     }
+
+    public ResponseEntity<Object> getSuggestions(long userId, Long requestId) {
+        return get("/" + requestId + "/suggestions", userId);
+    }
 }
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
 
 @Slf4j
 @RestController
@@ -34,14 +36,12 @@ public class ItemRequestController {
     @GetMapping("/all")
     public ResponseEntity<Object> getRequestsToAnotherUsers(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-             @RequestParam(defaultValue = "0") @Min(0) Long from,
-             @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
-        log.info("Получение всех запросов других пользователь пользователем с id = {}, from = {}, size = {}",
-                    userId, from, size);
-        return itemRequestClient.getRequestsToAnotherUsers(userId, from, size);
+            @RequestParam(defaultValue = "0") @Min(0) Long from,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+            @RequestParam(required = false) @Pattern(regexp = "[A-Za-z0-9_-]*") String cursor) {
+        log.info("Получение всех запросов других пользователь пользователем с id = {}, from = {}, size = {}, " +
+                "cursor = {}", userId, from, size, cursor);
+        return itemRequestClient.getRequestsToAnotherUsers(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
@@ -50,4 +50,11 @@ public class ItemRequestController {
         log.info("Получение запроса с id = {} пользователем userId = {}", requestId, userId);
         return itemRequestClient.getRequest(userId, requestId);
     }
+
+    @GetMapping("/{requestId}/suggestions")
+    public ResponseEntity<Object> getSuggestions(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                 @PathVariable Long requestId) {
+        log.info("Получение подобранных вещей для запроса с id = {} пользователем userId = {}", requestId, userId);
+        return itemRequestClient.getSuggestions(userId, requestId);
+    }
 }
@@ -3,14 +3,20 @@ package ru.practicum.shareit.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,7 +28,11 @@ public class UserClient extends BaseClient {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .requestFactory(() -> {
+                            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
+                            factory.setBufferRequestBody(false);
+                            return factory;
+                        })
                         .build()
         );
     }
@@ -31,12 +41,26 @@ public class UserClient extends BaseClient {
         return post("", requestDto);
     }
 
+    public void saveUsers(InputStream body, MediaType contentType, OutputStream output) {
+        postStreaming("/bulk", null, contentType, body, output);
+    }
+
     public ResponseEntity<Object> getUser(long userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> getAllUser() {
-        return get("");
+    public ResponseEntity<Object> getAllUser(Long cursor, Long size) {
+        Map<String, Object> parameters = Map.of(
+                "cursor", cursor,
+                "size", size
+        );
+        return get("?cursor={cursor}&size={size}", null, parameters);
+    }
+
+    public void streamUsers(OutputStream output) {
+        rest.execute("/stream", HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_NDJSON)),
+                response -> StreamUtils.copy(response.getBody(), output));
     }
 
 
@@ -2,23 +2,38 @@ package ru.practicum.shareit.user;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping(path = "/users")
 @AllArgsConstructor
 @Slf4j
+@Validated
 public class UserController {
     private final UserClient userClient;
 
     @GetMapping()
-    public ResponseEntity<Object> getAllUser() {
-        log.info("Получение всех пользователей");
-        return userClient.getAllUser();
+    public ResponseEntity<Object> getAllUser(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                             @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Long size) {
+        log.info("Получение пользователей, cursor = {}, size = {}", cursor, size);
+        return userClient.getAllUser(cursor, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        log.info("Потоковая выгрузка всех пользователей");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(userClient::streamUsers);
     }
 
     @GetMapping(value = "/{userId}")
@@ -33,6 +48,14 @@ public class UserController {
         return userClient.saveUser(request);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> saveUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        log.info("Массовое сохранение пользователей");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(output -> userClient.saveUsers(body, contentType, output));
+    }
+
     @PatchMapping(value = "/{userId}")
     public ResponseEntity<Object> updateUser(@PathVariable Long userId, @RequestBody UserDto request) {
         log.info("Обновление пользователя {}", request);
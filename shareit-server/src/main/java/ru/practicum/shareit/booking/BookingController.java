@@ -2,13 +2,16 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import java.util.List;
 
@@ -44,28 +47,36 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getBookingsToBooker(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                        @RequestParam(defaultValue = "ALL") String state,
-                                                        @RequestParam(defaultValue = "0") @Min(0) Long from,
-                                                        @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
+    public ResponseEntity<List<BookingResponseDto>> getBookingsToBooker(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @Min(0) Long from,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
             log.info("Получение запросов на бронирование для пользователя с id = {}, " +
-                    "state = {}, from = {}, size = {}", userId, state, from, size);
-            return bookingService.getBookingToUser(userId, state, from, size);
+                    "state = {}, cursor = {}, size = {}", userId, state, cursor, size);
+            return bookingService.getBookingToUser(userId, state, PageCursor.decode(cursor), size).toResponseEntity();
         }
+        log.info("Получение запросов на бронирование для пользователя с id = {}, " +
+                "state = {}, from = {}, size = {}", userId, state, from, size);
+        return ResponseEntity.ok(bookingService.getBookingToUser(userId, state, from, size));
+    }
 
     @GetMapping(value = "/owner")
-    public List<BookingResponseDto> getBookingsToOwner(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                                       @RequestParam(defaultValue = "ALL") String state,
-                                                       @RequestParam(defaultValue = "0") @Min(0) Long from,
-                                                       @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
+    public ResponseEntity<List<BookingResponseDto>> getBookingsToOwner(
+            @RequestHeader("X-Sharer-User-Id") Long userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @Min(0) Long from,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
             log.info("Получение запросов на бронирование других пользователей для пользователя с id = {}, " +
-                    "state = {}, from = {}, size = {}", userId, state, from, size);
-            return bookingService.getBookingToOwner(userId, state, from, size);
+                    "state = {}, cursor = {}, size = {}", userId, state, cursor, size);
+            return bookingService.getBookingToOwner(userId, state, PageCursor.decode(cursor), size).toResponseEntity();
+        }
+        log.info("Получение запросов на бронирование других пользователей для пользователя с id = {}, " +
+                "state = {}, from = {}, size = {}", userId, state, from, size);
+        return ResponseEntity.ok(bookingService.getBookingToOwner(userId, state, from, size));
     }
 }
@@ -6,6 +6,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.booking.model.Status;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 
 @Data
 @NoArgsConstructor
@@ -17,4 +20,10 @@ public class BookingResponseDto {
     private ItemBookingResponseDto item;
     private BookerDto booker;
     private Status status;
+
+    public BookingResponseDto(Long id, LocalDateTime start, LocalDateTime end, Status status, Long itemId,
+                              String itemName, Long bookerId) {
+        this(id, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(end), DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start),
+                new ItemBookingResponseDto(itemId, itemName), new BookerDto(bookerId), status);
+    }
 }
@@ -1,32 +1,122 @@
 package ru.practicum.shareit.booking.response;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepositoryJpa extends JpaRepository<Booking, Long> {
-    @Query("select b from Booking as b where b.booker.id = :bookerId and b.status = :status order by b.start desc")
-    List<Booking> findBookingByBooker_IdAndStatus(Long bookerId, Status status);
+    String SELECT_RESPONSE = "select new ru.practicum.shareit.booking.dto.BookingResponseDto(b.id, b.start, b.end, " +
+            "b.status, i.id, i.name, b.booker.id) from Booking as b join b.item as i ";
+    String BY_BOOKER = SELECT_RESPONSE + "where b.booker.id = :bookerId ";
+    String BY_OWNER = SELECT_RESPONSE + "where i.owner.id = :ownerId ";
+    String CURRENT = "and b.start < :now and b.end > :now ";
+    String PAST = "and b.end < :now ";
+    String FUTURE = "and b.start > :now ";
+    String WITH_STATUS = "and b.status = :status ";
+    String ORDER_BY_START = "order by b.start desc, b.id desc";
+    String AFTER_CURSOR = "and (b.start < :start or (b.start = :start and b.id < :id)) " + ORDER_BY_START;
 
-    List<Booking> findBookingByBooker_IdOrderByStartDesc(Long bookerId);
+    @Override
+    @EntityGraph(attributePaths = "item")
+    Optional<Booking> findById(Long id);
 
-    @Query("select b from Booking as b where b.item.owner.id = :ownerId and b.status = :status order by b.start desc")
-    List<Booking> findBookingByItem_Owner_IdAndStatus(Long ownerId, Status status);
+    @Query(BY_BOOKER + WITH_STATUS + ORDER_BY_START)
+    List<BookingResponseDto> findBookingByBooker_IdAndStatus(Long bookerId, Status status, Pageable pageable);
 
-    List<Booking> findBookingByItem_Owner_IdOrderByStartDesc(Long ownerId);
+    @Query(BY_BOOKER + ORDER_BY_START)
+    List<BookingResponseDto> findBookingByBooker_IdOrderByStartDescIdDesc(Long bookerId, Pageable pageable);
 
-    @Query("select b from Booking as b where b.item.id = :itemId and b.start > CURRENT_TIMESTAMP " +
-            "and b.status = :status order by b.start asc")
-    List<Booking> findBookingByItemAndStartAfter(Long itemId, Status status);
+    @Query(BY_BOOKER + CURRENT + ORDER_BY_START)
+    List<BookingResponseDto> findCurrentBookingByBooker_Id(Long bookerId, LocalDateTime now, Pageable pageable);
 
-    @Query("select b from Booking as b where b.item.id = :itemId and b.start < CURRENT_TIMESTAMP " +
-            "and b.status = :status order by b.start desc")
-    List<Booking> findBookingByItemAndStartBefore(Long itemId, Status status);
+    @Query(BY_BOOKER + PAST + ORDER_BY_START)
+    List<BookingResponseDto> findPastBookingByBooker_Id(Long bookerId, LocalDateTime now, Pageable pageable);
 
+    @Query(BY_BOOKER + FUTURE + ORDER_BY_START)
+    List<BookingResponseDto> findFutureBookingByBooker_Id(Long bookerId, LocalDateTime now, Pageable pageable);
+
+    @Query(BY_OWNER + WITH_STATUS + ORDER_BY_START)
+    List<BookingResponseDto> findBookingByItem_Owner_IdAndStatus(Long ownerId, Status status, Pageable pageable);
+
+    @Query(BY_OWNER + ORDER_BY_START)
+    List<BookingResponseDto> findBookingByItem_Owner_IdOrderByStartDescIdDesc(Long ownerId, Pageable pageable);
+
+    @Query(BY_OWNER + CURRENT + ORDER_BY_START)
+    List<BookingResponseDto> findCurrentBookingByItem_Owner_Id(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(BY_OWNER + PAST + ORDER_BY_START)
+    List<BookingResponseDto> findPastBookingByItem_Owner_Id(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(BY_OWNER + FUTURE + ORDER_BY_START)
+    List<BookingResponseDto> findFutureBookingByItem_Owner_Id(Long ownerId, LocalDateTime now, Pageable pageable);
+
+    @Query(BY_BOOKER + AFTER_CURSOR)
+    List<BookingResponseDto> findBookingByBooker_IdAfter(Long bookerId, LocalDateTime start, Long id,
+                                                         Pageable pageable);
+
+    @Query(BY_BOOKER + CURRENT + AFTER_CURSOR)
+    List<BookingResponseDto> findCurrentBookingByBooker_IdAfter(Long bookerId, LocalDateTime now, LocalDateTime start,
+                                                                Long id, Pageable pageable);
+
+    @Query(BY_BOOKER + PAST + AFTER_CURSOR)
+    List<BookingResponseDto> findPastBookingByBooker_IdAfter(Long bookerId, LocalDateTime now, LocalDateTime start,
+                                                             Long id, Pageable pageable);
+
+    @Query(BY_BOOKER + FUTURE + AFTER_CURSOR)
+    List<BookingResponseDto> findFutureBookingByBooker_IdAfter(Long bookerId, LocalDateTime now, LocalDateTime start,
+                                                               Long id, Pageable pageable);
+
+    @Query(BY_BOOKER + WITH_STATUS + AFTER_CURSOR)
+    List<BookingResponseDto> findBookingByBooker_IdAndStatusAfter(Long bookerId, Status status, LocalDateTime start,
+                                                                  Long id, Pageable pageable);
+
+    @Query(BY_OWNER + AFTER_CURSOR)
+    List<BookingResponseDto> findBookingByItem_Owner_IdAfter(Long ownerId, LocalDateTime start, Long id,
+                                                             Pageable pageable);
+
+    @Query(BY_OWNER + CURRENT + AFTER_CURSOR)
+    List<BookingResponseDto> findCurrentBookingByItem_Owner_IdAfter(Long ownerId, LocalDateTime now,
+                                                                    LocalDateTime start, Long id, Pageable pageable);
+
+    @Query(BY_OWNER + PAST + AFTER_CURSOR)
+    List<BookingResponseDto> findPastBookingByItem_Owner_IdAfter(Long ownerId, LocalDateTime now, LocalDateTime start,
+                                                                 Long id, Pageable pageable);
+
+    @Query(BY_OWNER + FUTURE + AFTER_CURSOR)
+    List<BookingResponseDto> findFutureBookingByItem_Owner_IdAfter(Long ownerId, LocalDateTime now, LocalDateTime start,
+                                                                   Long id, Pageable pageable);
+
+    @Query(BY_OWNER + WITH_STATUS + AFTER_CURSOR)
+    List<BookingResponseDto> findBookingByItem_Owner_IdAndStatusAfter(Long ownerId, Status status, LocalDateTime start,
+                                                                      Long id, Pageable pageable);
+
+    @Query("select count(b) from Booking as b where b.item.id = :itemId and b.status = :status " +
+            "and b.start < :end and b.end > :start")
+    long countOverlappingBookings(Long itemId, LocalDateTime start, LocalDateTime end, Status status);
+
+    @Query("select b from Booking as b where b.item.id = :itemId and b.status = :status and b.end > :now")
+    List<Booking> findBookingByItemAndEndAfter(Long itemId, Status status, LocalDateTime now);
+
+    @Query("select b from Booking as b where b.item.id in :itemIds and b.status = :status " +
+            "and b.start = (select max(l.start) from Booking as l where l.item.id = b.item.id " +
+            "and l.status = :status and l.start < :now) order by b.id asc")
+    List<Booking> findLastBookingByItem_IdIn(List<Long> itemIds, Status status, LocalDateTime now);
+
+    @Query("select b from Booking as b where b.item.id in :itemIds and b.status = :status " +
+            "and b.start = (select min(n.start) from Booking as n where n.item.id = b.item.id " +
+            "and n.status = :status and n.start > :now) order by b.id asc")
+    List<Booking> findNextBookingByItem_IdIn(List<Long> itemIds, Status status, LocalDateTime now);
+
+    @Query("select b from Booking as b where b.item.id = :itemId and b.booker.id = :bookerId " +
+            "and b.end < :end and b.status = :status")
     List<Booking> findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatus(Long itemId, Long bookerId,
                                                                     LocalDateTime end, Status status);
 }
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.booking.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class BookingIntervalIndex {
+    private final BookingRepositoryJpa bookingRepository;
+    private final Cache<Long, BookingIntervals> cache;
+
+    public BookingIntervalIndex(BookingRepositoryJpa bookingRepository, MeterRegistry meterRegistry,
+                                @Value("${shareit.booking.interval-index.max-items:10000}") long maxItems,
+                                @Value("${shareit.booking.interval-index.ttl:PT10M}") Duration ttl) {
+        this.bookingRepository = bookingRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxItems)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "booking-intervals");
+    }
+
+    public boolean overlapsApproved(long itemId, LocalDateTime start, LocalDateTime end) {
+        BookingIntervals intervals = cache.get(itemId, id -> BookingIntervals.of(
+                bookingRepository.findBookingByItemAndEndAfter(id, Status.APPROVED, LocalDateTime.now())));
+        if (!intervals.overlaps(start, end)) {
+            return false;
+        }
+        if (bookingRepository.countOverlappingBookings(itemId, start, end, Status.APPROVED) > 0) {
+            return true;
+        }
+        log.info("Интервалы бронирований вещи с id = {} устарели", itemId);
+        cache.invalidate(itemId);
+        return false;
+    }
+
+    public void add(Booking booking) {
+        long itemId = booking.getItem().getId();
+        LocalDateTime start = booking.getStart();
+        LocalDateTime end = booking.getEnd();
+        AfterCommit.run(() -> cache.asMap().computeIfPresent(itemId, (id, intervals) -> intervals.with(start, end)));
+    }
+}
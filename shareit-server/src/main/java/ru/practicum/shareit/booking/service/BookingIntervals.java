@@ -0,0 +1,73 @@
+package ru.practicum.shareit.booking.service;
+
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+final class BookingIntervals {
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+    private final LocalDateTime[] maxEnds;
+
+    private BookingIntervals(LocalDateTime[] starts, LocalDateTime[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = new LocalDateTime[ends.length];
+        for (int i = 0; i < ends.length; i++) {
+            maxEnds[i] = i == 0 || ends[i].isAfter(maxEnds[i - 1]) ? ends[i] : maxEnds[i - 1];
+        }
+    }
+
+    static BookingIntervals of(List<Booking> bookings) {
+        Booking[] sorted = bookings.stream()
+                .sorted(Comparator.comparing(Booking::getStart))
+                .toArray(Booking[]::new);
+        LocalDateTime[] starts = new LocalDateTime[sorted.length];
+        LocalDateTime[] ends = new LocalDateTime[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            starts[i] = sorted[i].getStart();
+            ends[i] = sorted[i].getEnd();
+        }
+        return new BookingIntervals(starts, ends);
+    }
+
+    boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        int last = lastStartBefore(end);
+        return last >= 0 && maxEnds[last].isAfter(start);
+    }
+
+    BookingIntervals with(LocalDateTime start, LocalDateTime end) {
+        int position = lastStartBefore(start) + 1;
+        LocalDateTime[] newStarts = insert(starts, position, start);
+        LocalDateTime[] newEnds = insert(ends, position, end);
+        return new BookingIntervals(newStarts, newEnds);
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    private int lastStartBefore(LocalDateTime time) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle].isBefore(time)) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private static LocalDateTime[] insert(LocalDateTime[] values, int position, LocalDateTime value) {
+        LocalDateTime[] result = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, position, result, position + 1, values.length - position);
+        result[position] = value;
+        return result;
+    }
+}
@@ -2,6 +2,8 @@ package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -15,4 +17,8 @@ public interface BookingService {
     List<BookingResponseDto> getBookingToUser(long userId, String state, long from, long size);
 
     List<BookingResponseDto> getBookingToOwner(long userId, String state, long from, long size);
+
+    CursorPage<BookingResponseDto> getBookingToUser(long userId, String state, PageCursor cursor, long size);
+
+    CursorPage<BookingResponseDto> getBookingToOwner(long userId, String state, PageCursor cursor, long size);
 }
@@ -11,15 +11,18 @@ import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemBookingSummaryService;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 
 @Service
@@ -29,6 +32,8 @@ public class BookingServiceImpl implements BookingService {
     private final UserService userService;
     private final ItemService itemService;
     private final BookingMapper bookingMapper;
+    private final ItemBookingSummaryService summaryService;
+    private final BookingIntervalIndex intervalIndex;
 
     @Override
     @Transactional
@@ -46,6 +51,9 @@ public class BookingServiceImpl implements BookingService {
             throw new UserNotAccessException("Пользователь с id = " + booker.getId() + " является владельцем вещи " +
                     "с id = " + item.getId());
         }
+        if (intervalIndex.overlapsApproved(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            throw new BookingOverlapException("Вещь с id = " + item.getId() + " уже забронирована на эти даты");
+        }
         Booking research = bookingMapper.toBooking(bookingDto);
         research.setStatus(Status.WAITING);
         research.setItem(item);
@@ -56,36 +64,48 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingResponseDto approvedOrRejectBooking(long userId, long bookingId, Boolean approved) {
-        User owner = userService.getUser(userId);
+        userService.validateUser(userId);
         Optional<Booking> booking = bookingRepository.findById(bookingId);
         if (booking.isEmpty()) {
             throw new NotFoundDataException("Запрос на бронирование с id = " + bookingId + " не найден");
         }
-        if (booking.get().getItem().getOwner().getId().longValue() != owner.getId()) {
-            throw new UserNotAccessException("Пользователь с id = " + owner.getId() + " не является владельцем вещи" +
+        if (booking.get().getItem().getOwner().getId().longValue() != userId) {
+            throw new UserNotAccessException("Пользователь с id = " + userId + " не является владельцем вещи" +
                     " с id = " + booking.get().getItem().getId());
         }
         if (booking.get().getStatus() != Status.WAITING) {
             throw new NotAccessChangeStatus("Нет доступа к изменению статуса");
         }
         if (approved) {
+            Item item = itemService.lockItem(booking.get().getItem().getId());
+            if (bookingRepository.countOverlappingBookings(item.getId(), booking.get().getStart(),
+                    booking.get().getEnd(), Status.APPROVED) > 0) {
+                throw new BookingOverlapException("Вещь с id = " + item.getId() + " уже забронирована на даты " +
+                        "бронирования с id = " + bookingId);
+            }
             booking.get().setStatus(Status.APPROVED);
         } else {
             booking.get().setStatus(Status.REJECTED);
         }
-        return bookingMapper.toDto(bookingRepository.save(booking.get()));
+        Booking saved = bookingRepository.save(booking.get());
+        summaryService.updateSummary(saved);
+        if (saved.getStatus() == Status.APPROVED) {
+            intervalIndex.add(saved);
+        }
+        return bookingMapper.toDto(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public BookingResponseDto getBooking(long userId, long bookingId) {
-        User user = userService.getUser(userId);
+        userService.validateUser(userId);
         Optional<Booking> booking = bookingRepository.findById(bookingId);
         if (booking.isEmpty()) {
             throw new NotFoundDataException("Запрос на бронирование с id = " + bookingId + " не найден");
         }
-        if (booking.get().getItem().getOwner().getId().longValue() != user.getId()
-                && user.getId().longValue() != booking.get().getBooker().getId()) {
-            throw new UserNotAccessException("Пользователь с id = " + user.getId() + " не является владельцем вещи" +
+        if (booking.get().getItem().getOwner().getId().longValue() != userId
+                && userId != booking.get().getBooker().getId()) {
+            throw new UserNotAccessException("Пользователь с id = " + userId + " не является владельцем вещи" +
                     " с id = " + booking.get().getItem().getId() + " или владельцем запроса на бронирования id = "
                     + booking.get().getId());
         }
@@ -93,80 +113,142 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDto> getBookingToUser(long userId, String state, long from, long size) {
-        userService.getUser(userId);
-        List<Booking> bookings = new ArrayList<>();
+        userService.validateUser(userId);
+        OffsetPageRequest page = OffsetPageRequest.of(from, size);
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingResponseDto> bookings;
         switch (state) {
             case ("ALL"):
-                bookings = bookingRepository.findBookingByBooker_IdOrderByStartDesc(userId);
+                bookings = bookingRepository.findBookingByBooker_IdOrderByStartDescIdDesc(userId, page);
                 break;
             case ("CURRENT"):
-                bookings = bookingRepository.findBookingByBooker_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getStart().isBefore(LocalDateTime.now())
-                                && b.getEnd().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findCurrentBookingByBooker_Id(userId, now, page);
                 break;
             case ("PAST"):
-                bookings = bookingRepository.findBookingByBooker_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getEnd().isBefore(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findPastBookingByBooker_Id(userId, now, page);
                 break;
             case ("FUTURE"):
-                bookings = bookingRepository.findBookingByBooker_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findFutureBookingByBooker_Id(userId, now, page);
                 break;
             case ("WAITING"):
-                bookings = bookingRepository.findBookingByBooker_IdAndStatus(userId, Status.WAITING);
+                bookings = bookingRepository.findBookingByBooker_IdAndStatus(userId, Status.WAITING, page);
                 break;
             case ("REJECTED"):
-                bookings = bookingRepository.findBookingByBooker_IdAndStatus(userId, Status.REJECTED);
+                bookings = bookingRepository.findBookingByBooker_IdAndStatus(userId, Status.REJECTED, page);
                 break;
             default:
                 throw new NotFoundStateException("Unknown state: " + state);
         }
-        return bookingMapper.toListDto(bookings).stream()
-                .skip(from)
-                .limit(size)
-                .collect(Collectors.toList());
+        return bookings;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDto> getBookingToOwner(long userId, String state, long from, long size) {
-        userService.getUser(userId);
-        List<Booking> bookings = new ArrayList<>();
+        userService.validateUser(userId);
+        OffsetPageRequest page = OffsetPageRequest.of(from, size);
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingResponseDto> bookings;
+        switch (state) {
+            case ("ALL"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdOrderByStartDescIdDesc(userId, page);
+                break;
+            case ("CURRENT"):
+                bookings = bookingRepository.findCurrentBookingByItem_Owner_Id(userId, now, page);
+                break;
+            case ("PAST"):
+                bookings = bookingRepository.findPastBookingByItem_Owner_Id(userId, now, page);
+                break;
+            case ("FUTURE"):
+                bookings = bookingRepository.findFutureBookingByItem_Owner_Id(userId, now, page);
+                break;
+            case ("WAITING"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatus(userId, Status.WAITING, page);
+                break;
+            case ("REJECTED"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatus(userId, Status.REJECTED, page);
+                break;
+            default:
+                throw new NotFoundStateException("Unknown state: " + state);
+        }
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponseDto> getBookingToUser(long userId, String state, PageCursor cursor, long size) {
+        userService.validateUser(userId);
+        OffsetPageRequest page = OffsetPageRequest.of(0, size);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = cursor.getPosition();
+        Long id = cursor.getId();
+        List<BookingResponseDto> bookings;
         switch (state) {
             case ("ALL"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdOrderByStartDesc(userId);
+                bookings = bookingRepository.findBookingByBooker_IdAfter(userId, start, id, page);
                 break;
             case ("CURRENT"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getStart().isBefore(LocalDateTime.now())
-                                && b.getEnd().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findCurrentBookingByBooker_IdAfter(userId, now, start, id, page);
                 break;
             case ("PAST"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getEnd().isBefore(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findPastBookingByBooker_IdAfter(userId, now, start, id, page);
                 break;
             case ("FUTURE"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdOrderByStartDesc(userId).stream()
-                        .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                        .collect(Collectors.toList());
+                bookings = bookingRepository.findFutureBookingByBooker_IdAfter(userId, now, start, id, page);
                 break;
             case ("WAITING"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatus(userId, Status.WAITING);
+                bookings = bookingRepository.findBookingByBooker_IdAndStatusAfter(userId, Status.WAITING, start, id,
+                        page);
                 break;
             case ("REJECTED"):
-                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatus(userId, Status.REJECTED);
+                bookings = bookingRepository.findBookingByBooker_IdAndStatusAfter(userId, Status.REJECTED, start, id,
+                        page);
                 break;
             default:
                 throw new NotFoundStateException("Unknown state: " + state);
         }
-        return bookingMapper.toListDto(bookings).stream()
-                .skip(from)
-                .limit(size)
-                .collect(Collectors.toList());
+        return CursorPage.of(bookings, size, this::toCursor, Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponseDto> getBookingToOwner(long userId, String state, PageCursor cursor, long size) {
+        userService.validateUser(userId);
+        OffsetPageRequest page = OffsetPageRequest.of(0, size);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = cursor.getPosition();
+        Long id = cursor.getId();
+        List<BookingResponseDto> bookings;
+        switch (state) {
+            case ("ALL"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdAfter(userId, start, id, page);
+                break;
+            case ("CURRENT"):
+                bookings = bookingRepository.findCurrentBookingByItem_Owner_IdAfter(userId, now, start, id, page);
+                break;
+            case ("PAST"):
+                bookings = bookingRepository.findPastBookingByItem_Owner_IdAfter(userId, now, start, id, page);
+                break;
+            case ("FUTURE"):
+                bookings = bookingRepository.findFutureBookingByItem_Owner_IdAfter(userId, now, start, id, page);
+                break;
+            case ("WAITING"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatusAfter(userId, Status.WAITING, start,
+                        id, page);
+                break;
+            case ("REJECTED"):
+                bookings = bookingRepository.findBookingByItem_Owner_IdAndStatusAfter(userId, Status.REJECTED, start,
+                        id, page);
+                break;
+            default:
+                throw new NotFoundStateException("Unknown state: " + state);
+        }
+        return CursorPage.of(bookings, size, this::toCursor, Function.identity());
+    }
+
+    private PageCursor toCursor(BookingResponseDto booking) {
+        return new PageCursor(LocalDateTime.parse(booking.getStart()), booking.getId());
     }
 }
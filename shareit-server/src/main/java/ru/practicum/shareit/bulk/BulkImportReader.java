@@ -0,0 +1,122 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkImportReader {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> ImportSummary read(InputStream body, Class<T> type, int batchSize,
+                                  Function<Map<Long, T>, List<ImportResultDto>> saveBatch,
+                                  Consumer<ImportResultDto> results) {
+        ImportSummary summary = new ImportSummary(0, 0);
+        List<ImportResultDto> rejected = new ArrayList<>();
+        Map<Long, T> batch = new LinkedHashMap<>();
+        long row = 1;
+        try (MappingIterator<T> rows = objectMapper.readerFor(type).readValues(body)) {
+            for (; rows.hasNextValue(); row++) {
+                try {
+                    T value = rows.nextValue();
+                    String error = validate(value);
+                    if (error == null) {
+                        batch.put(row, value);
+                    } else {
+                        rejected.add(new ImportResultDto(row, null, error));
+                    }
+                } catch (JsonMappingException e) {
+                    rejected.add(new ImportResultDto(row, null, e.getOriginalMessage()));
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, rejected, saveBatch, results, summary);
+                    batch = new LinkedHashMap<>();
+                    rejected = new ArrayList<>();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            rejected.add(new ImportResultDto(row, null, e.getOriginalMessage()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        flush(batch, rejected, saveBatch, results, summary);
+        return summary;
+    }
+
+    private <T> void flush(Map<Long, T> batch, List<ImportResultDto> rejected,
+                           Function<Map<Long, T>, List<ImportResultDto>> saveBatch,
+                           Consumer<ImportResultDto> results, ImportSummary summary) {
+        List<ImportResultDto> processed = new ArrayList<>(rejected);
+        if (!batch.isEmpty()) {
+            processed.addAll(save(batch, saveBatch));
+        }
+        processed.sort(Comparator.comparingLong(ImportResultDto::getRow));
+        processed.forEach(result -> {
+            summary.setRows(summary.getRows() + 1);
+            if (result.getError() != null) {
+                summary.setErrors(summary.getErrors() + 1);
+            }
+            results.accept(result);
+        });
+    }
+
+    private <T> List<ImportResultDto> save(Map<Long, T> batch,
+                                           Function<Map<Long, T>, List<ImportResultDto>> saveBatch) {
+        try {
+            return saveBatch.apply(batch);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Не удалось сохранить пакет из {} строк импорта, повтор по одной: {}", batch.size(),
+                    e.getMessage());
+            List<ImportResultDto> saved = new ArrayList<>();
+            batch.forEach((row, value) -> saved.addAll(saveOne(row, value, saveBatch)));
+            return saved;
+        }
+    }
+
+    private <T> List<ImportResultDto> saveOne(long row, T value,
+                                              Function<Map<Long, T>, List<ImportResultDto>> saveBatch) {
+        try {
+            return saveBatch.apply(Map.of(row, value));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Не удалось сохранить строку импорта {}: {}", row, e.getMessage());
+            return List.of(new ImportResultDto(row, null, "Строка нарушает ограничение целостности данных"));
+        }
+    }
+
+    private <T> String validate(T value) {
+        if (value == null) {
+            return "Пустая строка импорта";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
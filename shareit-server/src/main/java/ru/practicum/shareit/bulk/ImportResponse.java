@@ -0,0 +1,34 @@
+package ru.practicum.shareit.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+public final class ImportResponse {
+    private ImportResponse() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper,
+                                                               Consumer<Consumer<ImportResultDto>> importer) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(output -> {
+            SequenceWriter writer = objectMapper.writerFor(ImportResultDto.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValuesAsArray(output);
+            importer.accept(result -> {
+                try {
+                    writer.write(result);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.close();
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportSummary {
+    private long rows;
+    private long errors;
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.transaction.AfterCommit;
+
+import javax.persistence.EntityManagerFactory;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictCascadedFromUser(long userId) {
+        AfterCommit.run(() -> {
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(Item.class);
+            cache.evictEntityData(ItemRequest.class);
+            cache.evictQueryRegions();
+            log.info("Кэш вещей и запросов очищен после удаления пользователя с id = {}", userId);
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManagerFactory;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.datasource.replica.urls")
+class ReplicaReadCacheMode {
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        routingDataSource.addReplicaReadListener(() -> {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+                    .getResource(entityManagerFactory);
+            if (holder != null) {
+                holder.getEntityManager().setProperty("javax.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+            }
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package ru.practicum.shareit.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    public static final String PRIMARY = "primary";
+    private static final Object REPLICA_READ = new Object();
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Set<String> available = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    private final List<Runnable> replicaReadListeners = new CopyOnWriteArrayList<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        available.addAll(replicas.keySet());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> candidates = replicas.keySet().stream()
+                .filter(available::contains)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Connection connection;
+        try {
+            connection = replicas.get(key).getConnection();
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable((String) key, e.getMessage());
+            return primary.getConnection();
+        }
+        markReplicaRead();
+        return connection;
+    }
+
+    public static boolean isCurrentTransactionOnReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    public void addReplicaReadListener(Runnable listener) {
+        replicaReadListeners.add(listener);
+    }
+
+    @Scheduled(initialDelayString = "${shareit.datasource.replica.check-delay-ms:5000}",
+            fixedDelayString = "${shareit.datasource.replica.check-delay-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach((key, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                Duration lag = measureLag(connection);
+                if (lag.compareTo(maxLag) > 0) {
+                    markUnavailable(key, "отставание " + lag + " превышает " + maxLag);
+                } else if (available.add(key)) {
+                    log.info("Реплика {} снова принимает запросы на чтение", key);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markUnavailable(key, e.getMessage());
+            }
+        });
+    }
+
+    public Set<String> getAvailableReplicas() {
+        return Set.copyOf(available);
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<DataSource> targets = new ArrayList<>(replicas.values());
+        targets.add(primary);
+        for (DataSource target : targets) {
+            if (target instanceof Closeable) {
+                ((Closeable) target).close();
+            }
+        }
+    }
+
+    private Duration measureLag(Connection connection) throws SQLException {
+        if (lagQuery.isBlank()) {
+            return Duration.ZERO;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000)) : Duration.ZERO;
+        }
+    }
+
+    private void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isCurrentTransactionOnReplica()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+        replicaReadListeners.forEach(Runnable::run);
+    }
+
+    private void markUnavailable(String key, String reason) {
+        if (available.remove(key)) {
+            log.warn("Реплика {} исключена из чтения, запросы идут на основную базу: {}", key, reason);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class DuplicateEmailException extends RuntimeException {
+    public DuplicateEmailException(String message) {
+        super(message);
+    }
+}
@@ -1,22 +1,35 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.bulk.ImportResponse;
 import ru.practicum.shareit.item.dto.CommentResearchDto;
 import ru.practicum.shareit.item.dto.CommentResponseDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/items")
+@Validated
 public class ItemController {
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemDto saveItem(@RequestHeader("X-Sharer-User-Id") Long userId,
@@ -25,6 +38,13 @@ public class ItemController {
         return itemService.saveItem(itemDto, userId);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> saveItems(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                           InputStream body) {
+        log.info("Массовое сохранение вещей пользователя с id = {}", userId);
+        return ImportResponse.stream(objectMapper, results -> itemImportService.importItems(body, userId, results));
+    }
+
     @GetMapping(value = "/{itemId}")
     public ItemDto getItem(@RequestHeader("X-Sharer-User-Id") Long userId,
                            @PathVariable Long itemId) {
@@ -47,9 +67,19 @@ public class ItemController {
 
     @GetMapping(value = "/search")
     public List<ItemDto> getItemToSearch(@RequestHeader("X-Sharer-User-Id") Long userId,
-                                         @RequestParam (defaultValue = "") String text) {
-        log.info("Поиск вещи по запросу - " + text);
-        return itemService.searchItem(text, userId);
+                                         @RequestParam (defaultValue = "") String text,
+                                         @RequestParam(defaultValue = "0") @Min(0) Long from,
+                                         @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size) {
+        log.info("Поиск вещи по запросу - {}, from = {}, size = {}", text, from, size);
+        return itemService.searchItem(text, userId, from, size);
+    }
+
+    @GetMapping(value = "/autocomplete")
+    public List<String> getItemAutocomplete(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                            @RequestParam(defaultValue = "") String prefix,
+                                            @RequestParam(defaultValue = "10") @Min(1) @Max(20) Integer size) {
+        log.info("Подсказки названий вещей по префиксу - {}, size = {}", prefix, size);
+        return itemService.autocompleteItem(prefix, userId, size);
     }
 
     @PostMapping(value = "/{itemId}/comment")
@@ -25,4 +25,12 @@ public class ItemDto {
     private BookingResponseToItemDto lastBooking;
     private List<CommentResponseDto> comments = new ArrayList<>();
     private Long requestId;
+
+    public ItemDto(Long id, String name, String description, Boolean available, Long requestId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.requestId = requestId;
+    }
 }
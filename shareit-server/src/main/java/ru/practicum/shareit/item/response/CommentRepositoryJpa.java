@@ -1,10 +1,15 @@
 package ru.practicum.shareit.item.response;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
 import java.util.List;
 
 public interface CommentRepositoryJpa extends JpaRepository<Comment, Long> {
+    @Query("select c from Comment as c join fetch c.author where c.item.id = :itemId order by c.id asc")
     List<Comment> findCommentByItem_Id(Long itemId);
+
+    @Query("select c from Comment as c join fetch c.author where c.item.id in :itemIds order by c.id asc")
+    List<Comment> findCommentByItem_IdIn(List<Long> itemIds);
 }
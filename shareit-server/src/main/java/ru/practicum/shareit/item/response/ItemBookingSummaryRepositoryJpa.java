@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.response;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemBookingSummaryRepositoryJpa extends JpaRepository<ItemBookingSummary, Long> {
+    @Query("select s from ItemBookingSummary as s left join fetch s.lastBooking left join fetch s.nextBooking " +
+            "where s.itemId in :itemIds")
+    List<ItemBookingSummary> findSummaryByItemIdIn(List<Long> itemIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ItemBookingSummary as s where s.itemId = :itemId")
+    Optional<ItemBookingSummary> findSummaryByItemIdForUpdate(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ItemBookingSummary as s where s.nextBooking.start <= :now")
+    List<ItemBookingSummary> findStartedSummary(LocalDateTime now, Pageable pageable);
+
+    @Query("select it.id from Item as it where not exists " +
+            "(select s from ItemBookingSummary as s where s.itemId = it.id) order by it.id asc")
+    List<Long> findItemIdWithoutSummary(Pageable pageable);
+
+    @Modifying
+    @Query("insert into ItemBookingSummary (itemId) select it.id from Item as it where it.id in :itemIds")
+    int createSummaryByItemIdIn(List<Long> itemIds);
+}
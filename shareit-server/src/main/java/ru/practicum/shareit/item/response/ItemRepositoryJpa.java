@@ -1,20 +1,50 @@
 package ru.practicum.shareit.item.response;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepositoryJpa extends JpaRepository<Item, Long> {
-    @Query("select it from Item as it where (upper(it.name) like CONCAT('%',UPPER(:name),'%') " +
-            "or upper(it.description) like CONCAT('%',UPPER(:description),'%')) AND it.available = true")
-    List<Item> findByNameAndDescription(@Param("name") String name, @Param("description") String description);
+    @Query("select it.id from Item as it where (upper(it.name) like CONCAT('%',UPPER(:text),'%') " +
+            "or upper(it.description) like CONCAT('%',UPPER(:text),'%')) AND it.available = true order by it.id asc")
+    List<Long> findAvailableItemIdByText(String text, Pageable pageable);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it from Item as it where it.id = :id")
+    Optional<Item> findItemByIdForUpdate(Long id);
+
+    @Query("select it from Item as it where it.owner.id = :id order by it.id asc")
     List<Item> findByOwnerIdOrderByIdAsc(Long id);
 
+    @Query("select it from Item as it where it.request.id = :id")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Item> findByRequest_Id(Long id);
 
-    List<Item> findByRequest_IdIn(List<Long> ids);
+    @Query("select new ru.practicum.shareit.item.dto.ItemToRequestResponse(it.id, it.name, it.description, " +
+            "it.available, it.request.id) from Item as it where it.request.id in :ids")
+    List<ItemToRequestResponse> findByRequest_IdIn(List<Long> ids);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(it.id, it.name, it.description, it.available, " +
+            "it.request.id) from Item as it where it.id in :ids")
+    List<ItemDto> findItemDtoByIdIn(List<Long> ids);
+
+    @Query("select it from Item as it where it.available = true and it.id > :id order by it.id asc")
+    List<Item> findAvailableItemAfter(Long id, Pageable pageable);
+
+    @Query(value = "select cast(it.item_id as bigint) from items as it where it.available = true and " +
+            "(setweight(to_tsvector('simple', it.name), 'A') || setweight(to_tsvector('simple', it.description), 'B')) " +
+            "@@ to_tsquery('simple', :query) order by ts_rank(setweight(to_tsvector('simple', it.name), 'A') || " +
+            "setweight(to_tsvector('simple', it.description), 'B'), to_tsquery('simple', :query)) desc, " +
+            "it.item_id asc", nativeQuery = true)
+    List<Long> searchItemIds(String query, Pageable pageable);
 }
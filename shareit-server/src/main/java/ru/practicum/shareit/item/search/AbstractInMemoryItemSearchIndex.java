@@ -0,0 +1,69 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.transaction.AfterCommit;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+abstract class AbstractInMemoryItemSearchIndex {
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final ItemRepositoryJpa itemRepository;
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void rebuild() {
+        rebuild(itemRepository, List.of(this));
+    }
+
+    static void rebuild(ItemRepositoryJpa itemRepository, List<? extends AbstractInMemoryItemSearchIndex> indexes) {
+        long lastId = 0;
+        List<Item> items;
+        do {
+            items = itemRepository.findAvailableItemAfter(lastId, OffsetPageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Item item : items) {
+                indexes.forEach(index -> index.apply(item));
+            }
+            if (!items.isEmpty()) {
+                lastId = items.get(items.size() - 1).getId();
+            }
+        } while (items.size() == LOAD_BATCH_SIZE);
+        indexes.forEach(index -> log.info("Поисковый индекс вещей {} построен, проиндексировано {} вещей",
+                index.getClass().getSimpleName(), index.size()));
+    }
+
+    public void index(Item item) {
+        User owner = item.getOwner() == null ? null : new User(item.getOwner().getId(), null, null);
+        Item snapshot = new Item(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                owner, null);
+        AfterCommit.run(() -> apply(snapshot));
+    }
+
+    public void remove(List<Long> ids) {
+        AfterCommit.run(() -> ids.forEach(id -> apply(new Item(id, null, null, false, null, null))));
+    }
+
+    protected abstract void apply(Item item);
+
+    protected abstract int size();
+
+    protected static List<Long> page(Map<Long, Integer> scores, long from, long size) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(from)
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
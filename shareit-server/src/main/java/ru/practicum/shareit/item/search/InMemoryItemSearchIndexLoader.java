@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+class InMemoryItemSearchIndexLoader {
+    private final ItemRepositoryJpa itemRepository;
+    private final List<AbstractInMemoryItemSearchIndex> indexes;
+
+    @PostConstruct
+    public void load() {
+        AbstractInMemoryItemSearchIndex.rebuild(itemRepository, indexes);
+    }
+}
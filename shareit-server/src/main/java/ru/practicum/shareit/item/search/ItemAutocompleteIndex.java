@@ -0,0 +1,130 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+public class ItemAutocompleteIndex extends AbstractInMemoryItemSearchIndex {
+    public static final int MAX_COMPLETIONS = 20;
+
+    private static final Comparator<Node> BY_POPULARITY = Comparator.comparingInt((Node node) -> node.count)
+            .reversed()
+            .thenComparing(node -> node.key);
+
+    private final Node root = new Node(null);
+    private final Map<Long, String> names = new HashMap<>();
+
+    public ItemAutocompleteIndex(ItemRepositoryJpa itemRepository) {
+        super(itemRepository);
+    }
+
+    public List<String> complete(String prefix, int size) {
+        String key = prefix.toLowerCase(Locale.ROOT).stripLeading();
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.stream()
+                    .limit(size)
+                    .map(terminal -> terminal.display)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void apply(Item item) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(item.getId());
+            if (previous != null) {
+                update(previous.toLowerCase(Locale.ROOT), previous, -1);
+            }
+            if (Boolean.TRUE.equals(item.getAvailable())) {
+                names.put(item.getId(), item.getName());
+                update(item.getName().toLowerCase(Locale.ROOT), item.getName(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(String key, String display, int delta) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Node parent = node;
+            node = parent.children.computeIfAbsent(c, ch -> new Node(parent));
+            path.push(node);
+        }
+        node.count += delta;
+        if (node.count > 0) {
+            node.key = key;
+            node.display = delta > 0 || node.display == null ? display : node.display;
+        } else {
+            node.key = null;
+            node.display = null;
+        }
+        for (int i = key.length() - 1; !path.isEmpty(); i--) {
+            Node current = path.pop();
+            if (current.parent != null && current.count == 0 && current.children.isEmpty()) {
+                current.parent.children.remove(key.charAt(i));
+                continue;
+            }
+            current.refreshTop();
+        }
+    }
+
+    private static class Node {
+        private final Node parent;
+        private final Map<Character, Node> children = new HashMap<>(2);
+        private List<Node> top = List.of();
+        private String key;
+        private String display;
+        private int count;
+
+        private Node(Node parent) {
+            this.parent = parent;
+        }
+
+        private void refreshTop() {
+            PriorityQueue<Node> candidates = new PriorityQueue<>(BY_POPULARITY);
+            if (count > 0) {
+                candidates.add(this);
+            }
+            for (Node child : children.values()) {
+                candidates.addAll(child.top);
+            }
+            List<Node> best = new ArrayList<>(Math.min(candidates.size(), MAX_COMPLETIONS));
+            while (!candidates.isEmpty() && best.size() < MAX_COMPLETIONS) {
+                best.add(candidates.poll());
+            }
+            top = best;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ItemMatchIndex {
+    private static final int MIN_TERM_LENGTH = 3;
+    private static final int ENDING_LENGTH = 2;
+    private static final Set<String> STOP_WORDS = Set.of("для", "или", "без", "под", "над", "при", "про", "что",
+            "как", "это", "чтобы", "нужен", "нужна", "нужно", "нужны", "ищу", "хочу", "можно");
+
+    private final ItemTokenIndex tokenIndex;
+
+    public Map<Long, Double> match(String text, Long ownerId, int limit) {
+        List<String> stems = ItemSearchTokenizer.terms(text).stream()
+                .filter(term -> term.length() >= MIN_TERM_LENGTH && !STOP_WORDS.contains(term))
+                .map(term -> term.substring(0, Math.max(MIN_TERM_LENGTH, term.length() - ENDING_LENGTH)))
+                .distinct()
+                .collect(Collectors.toList());
+        if (stems.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        int documents = tokenIndex.size();
+        for (String stem : stems) {
+            Map<Long, Integer> termScores = tokenIndex.score(stem, ENDING_LENGTH);
+            if (termScores.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1 + (double) documents / termScores.size());
+            termScores.forEach((id, weight) -> {
+                if (!Objects.equals(tokenIndex.ownerOf(id), ownerId)) {
+                    scores.merge(id, weight * idf, Double::sum);
+                }
+            });
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+}
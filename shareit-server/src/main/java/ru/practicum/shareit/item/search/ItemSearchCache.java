@@ -0,0 +1,84 @@
+package ru.practicum.shareit.item.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.datasource.ReplicaRoutingDataSource;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.transaction.AfterCommit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Component
+public class ItemSearchCache {
+    private final ItemSearchIndex searchIndex;
+    private final Cache<Key, List<Long>> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public ItemSearchCache(ItemSearchIndex searchIndex, MeterRegistry meterRegistry,
+                           @Value("${shareit.search.cache.max-size:10000}") long maxSize,
+                           @Value("${shareit.search.cache.ttl:PT5M}") Duration ttl) {
+        this.searchIndex = searchIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "itemSearch");
+    }
+
+    public List<Long> search(String text, long from, long size) {
+        Key key = new Key(text.trim().toLowerCase(Locale.ROOT), from, size);
+        List<Long> ids = cache.getIfPresent(key);
+        if (ids != null) {
+            return ids;
+        }
+        long loadedAt = version.get();
+        ids = List.copyOf(searchIndex.search(key.getText(), from, size));
+        if (loadedAt == version.get() && !ReplicaRoutingDataSource.isCurrentTransactionOnReplica()) {
+            cache.put(key, ids);
+        }
+        return ids;
+    }
+
+    public void invalidate(Item previous, Item current) {
+        Item snapshot = new Item(current.getId(), current.getName(), current.getDescription(),
+                current.getAvailable(), null, null);
+        AfterCommit.run(() -> {
+            version.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> searchIndex.matches(key.getText(), snapshot)
+                    || previous != null && searchIndex.matches(key.getText(), previous));
+        });
+    }
+
+    public void invalidate(List<Item> created) {
+        List<Item> snapshots = created.stream()
+                .map(item -> new Item(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                        null, null))
+                .collect(Collectors.toList());
+        AfterCommit.run(() -> {
+            version.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> snapshots.stream()
+                    .anyMatch(snapshot -> searchIndex.matches(key.getText(), snapshot)));
+        });
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String text;
+        private final long from;
+        private final long size;
+    }
+}
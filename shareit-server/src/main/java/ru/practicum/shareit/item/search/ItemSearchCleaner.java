@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchCleaner {
+    private final ItemRepositoryJpa itemRepository;
+    private final ItemSearchIndex searchIndex;
+    private final ItemSearchCache searchCache;
+    private final ItemAutocompleteIndex autocompleteIndex;
+    private final ItemTokenIndex tokenIndex;
+
+    public void removeItemsOfOwner(long ownerId) {
+        List<Item> items = itemRepository.findByOwnerIdOrderByIdAsc(ownerId);
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Long> ids = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        searchIndex.remove(ids);
+        autocompleteIndex.remove(ids);
+        tokenIndex.remove(ids);
+        searchCache.invalidate(items);
+        log.info("Вещи пользователя с id = {} удаляются из поисковых индексов: {}", ownerId, ids.size());
+    }
+}
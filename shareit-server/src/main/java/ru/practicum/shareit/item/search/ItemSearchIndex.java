@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchIndex {
+    List<Long> search(String text, long from, long size);
+
+    void index(Item item);
+
+    void remove(List<Long> ids);
+
+    boolean matches(String text, Item item);
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class ItemSearchTokenizer {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ItemSearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    public static boolean matches(String text, Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return false;
+        }
+        List<String> tokens = tokenize(item.getName());
+        tokens.addAll(tokenize(item.getDescription()));
+        List<String> terms = terms(text);
+        return !terms.isEmpty() && terms.stream()
+                .allMatch(term -> tokens.stream().anyMatch(token -> token.startsWith(term)));
+    }
+
+    public static List<String> terms(String text) {
+        return tokenize(text).stream()
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
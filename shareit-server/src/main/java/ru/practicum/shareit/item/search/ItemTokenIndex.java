@@ -0,0 +1,96 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+@Component
+public class ItemTokenIndex extends AbstractInMemoryItemSearchIndex {
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int EXACT_MATCH_FACTOR = 2;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Long> owners = new HashMap<>();
+
+    public ItemTokenIndex(ItemRepositoryJpa itemRepository) {
+        super(itemRepository);
+    }
+
+    Map<Long, Integer> score(String prefix, int exactSuffixLength) {
+        Map<Long, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Map<Long, Integer>> posting : postings.subMap(prefix, true,
+                    prefix + Character.MAX_VALUE, false).entrySet()) {
+                int factor = posting.getKey().length() - prefix.length() <= exactSuffixLength
+                        ? EXACT_MATCH_FACTOR : 1;
+                posting.getValue().forEach((id, weight) -> scores.merge(id, weight * factor, Math::max));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores;
+    }
+
+    Long ownerOf(long id) {
+        lock.readLock().lock();
+        try {
+            return owners.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void apply(Item item) {
+        Map<String, Integer> weights = new HashMap<>();
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            ItemSearchTokenizer.tokenize(item.getName()).forEach(token -> weights.merge(token, NAME_WEIGHT,
+                    Integer::sum));
+            ItemSearchTokenizer.tokenize(item.getDescription()).forEach(token -> weights.merge(token,
+                    DESCRIPTION_WEIGHT, Integer::sum));
+        }
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> previous = documents.remove(item.getId());
+            owners.remove(item.getId());
+            if (previous != null) {
+                for (String token : previous.keySet()) {
+                    Map<Long, Integer> posting = postings.get(token);
+                    posting.remove(item.getId());
+                    if (posting.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+            if (weights.isEmpty()) {
+                return;
+            }
+            documents.put(item.getId(), weights);
+            if (item.getOwner() != null) {
+                owners.put(item.getId(), item.getOwner().getId());
+            }
+            weights.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>())
+                    .put(item.getId(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgres")
+public class PostgresItemSearchIndex implements ItemSearchIndex {
+    private final ItemRepositoryJpa itemRepository;
+
+    @Override
+    public List<Long> search(String text, long from, long size) {
+        List<String> terms = ItemSearchTokenizer.terms(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String query = terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return itemRepository.searchItemIds(query, OffsetPageRequest.of(from, size));
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void remove(List<Long> ids) {
+    }
+
+    @Override
+    public boolean matches(String text, Item item) {
+        return ItemSearchTokenizer.matches(text, item);
+    }
+}
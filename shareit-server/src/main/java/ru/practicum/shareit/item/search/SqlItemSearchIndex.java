@@ -0,0 +1,38 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.util.List;
+import java.util.Locale;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "sql")
+public class SqlItemSearchIndex implements ItemSearchIndex {
+    private final ItemRepositoryJpa itemRepository;
+
+    @Override
+    public List<Long> search(String text, long from, long size) {
+        return itemRepository.findAvailableItemIdByText(text.trim(), OffsetPageRequest.of(from, size));
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void remove(List<Long> ids) {
+    }
+
+    @Override
+    public boolean matches(String text, Item item) {
+        String query = text.trim().toLowerCase(Locale.ROOT);
+        return Boolean.TRUE.equals(item.getAvailable()) && (item.getName().toLowerCase(Locale.ROOT).contains(query)
+                || item.getDescription().toLowerCase(Locale.ROOT).contains(query));
+    }
+}
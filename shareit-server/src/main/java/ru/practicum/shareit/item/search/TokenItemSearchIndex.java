@@ -0,0 +1,51 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "token")
+public class TokenItemSearchIndex implements ItemSearchIndex {
+    private final ItemTokenIndex tokenIndex;
+
+    @Override
+    public List<Long> search(String text, long from, long size) {
+        List<String> terms = ItemSearchTokenizer.terms(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = tokenIndex.score(term, 0);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        return AbstractInMemoryItemSearchIndex.page(scores, from, size);
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void remove(List<Long> ids) {
+    }
+
+    @Override
+    public boolean matches(String text, Item item) {
+        return ItemSearchTokenizer.matches(text, item);
+    }
+}
@@ -0,0 +1,163 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "trigram", matchIfMissing = true)
+public class TrigramItemSearchIndex extends AbstractInMemoryItemSearchIndex implements ItemSearchIndex {
+    private static final int GRAM = 3;
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    public TrigramItemSearchIndex(ItemRepositoryJpa itemRepository) {
+        super(itemRepository);
+    }
+
+    @Override
+    public List<Long> search(String text, long from, long size) {
+        List<String> terms = terms(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                Map<Long, Integer> termScores = score(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page(scores, from, size);
+    }
+
+    @Override
+    public boolean matches(String text, Item item) {
+        if (!Boolean.TRUE.equals(item.getAvailable())) {
+            return false;
+        }
+        String name = item.getName().toLowerCase(Locale.ROOT);
+        String description = item.getDescription().toLowerCase(Locale.ROOT);
+        List<String> terms = terms(text);
+        return !terms.isEmpty() && terms.stream()
+                .allMatch(term -> name.contains(term) || description.contains(term));
+    }
+
+    private static List<String> terms(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Integer> score(String term) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Long id : candidates(term)) {
+            String[] fields = documents.get(id);
+            int score = (fields[0].contains(term) ? NAME_WEIGHT : 0)
+                    + (fields[1].contains(term) ? DESCRIPTION_WEIGHT : 0);
+            if (score > 0) {
+                scores.put(id, score);
+            }
+        }
+        return scores;
+    }
+
+    private Collection<Long> candidates(String term) {
+        if (term.length() < GRAM) {
+            return documents.keySet();
+        }
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : grams(term)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            sets.add(posting);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        List<Long> candidates = new ArrayList<>();
+        for (Long id : sets.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < sets.size() && inAll; i++) {
+                inAll = sets.get(i).contains(id);
+            }
+            if (inAll) {
+                candidates.add(id);
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    @Override
+    protected void apply(Item item) {
+        String[] fields = null;
+        Set<String> grams = Set.of();
+        if (Boolean.TRUE.equals(item.getAvailable())) {
+            fields = new String[]{item.getName().toLowerCase(Locale.ROOT),
+                    item.getDescription().toLowerCase(Locale.ROOT)};
+            grams = grams(fields[0]);
+            grams.addAll(grams(fields[1]));
+        }
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(item.getId());
+            if (previous != null) {
+                Set<String> previousGrams = grams(previous[0]);
+                previousGrams.addAll(grams(previous[1]));
+                for (String gram : previousGrams) {
+                    Set<Long> posting = postings.get(gram);
+                    posting.remove(item.getId());
+                    if (posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            if (fields == null) {
+                return;
+            }
+            documents.put(item.getId(), fields);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(item.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
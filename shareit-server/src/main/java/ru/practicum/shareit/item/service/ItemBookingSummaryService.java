@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ItemBookingSummaryService {
+    void createSummary(long itemId);
+
+    void createSummaries(List<Long> itemIds);
+
+    void updateSummary(Booking booking);
+
+    Map<Long, ItemBookingSummary> getSummaries(List<Long> itemIds);
+
+    int rollSummaries();
+}
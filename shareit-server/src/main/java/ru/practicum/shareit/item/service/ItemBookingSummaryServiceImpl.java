@@ -0,0 +1,134 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.response.ItemBookingSummaryRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemBookingSummaryServiceImpl implements ItemBookingSummaryService {
+    private final ItemBookingSummaryRepositoryJpa summaryRepository;
+    private final BookingRepositoryJpa bookingRepository;
+    @Value("${shareit.item-summary.roll-batch-size:500}")
+    private int rollBatchSize = 500;
+
+    @Override
+    @Transactional
+    public void createSummary(long itemId) {
+        summaryRepository.createSummaryByItemIdIn(List.of(itemId));
+    }
+
+    @Override
+    @Transactional
+    public void createSummaries(List<Long> itemIds) {
+        if (!itemIds.isEmpty()) {
+            summaryRepository.createSummaryByItemIdIn(itemIds);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateSummary(Booking booking) {
+        if (booking.getStatus() != Status.APPROVED) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<ItemBookingSummary> stored = summaryRepository
+                .findSummaryByItemIdForUpdate(booking.getItem().getId());
+        if (stored.isEmpty() || isStale(stored.get(), now)) {
+            ItemBookingSummary summary = stored.orElse(new ItemBookingSummary(booking.getItem().getId(), null, null));
+            refresh(List.of(summary), now);
+            summaryRepository.save(summary);
+            return;
+        }
+        ItemBookingSummary summary = stored.get();
+        if (booking.getStart().isBefore(now)) {
+            if (summary.getLastBooking() == null || booking.getStart().isAfter(summary.getLastBooking().getStart())) {
+                summary.setLastBooking(booking);
+            }
+        } else if (booking.getStart().isAfter(now)) {
+            if (summary.getNextBooking() == null || booking.getStart().isBefore(summary.getNextBooking().getStart())) {
+                summary.setNextBooking(booking);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ItemBookingSummary> getSummaries(List<Long> itemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ItemBookingSummary> summaries = summaryRepository.findSummaryByItemIdIn(itemIds).stream()
+                .collect(Collectors.toMap(ItemBookingSummary::getItemId, Function.identity()));
+        List<ItemBookingSummary> stale = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            ItemBookingSummary summary = summaries.get(itemId);
+            if (summary == null) {
+                stale.add(new ItemBookingSummary(itemId, null, null));
+            } else if (isStale(summary, now)) {
+                stale.add(new ItemBookingSummary(itemId, summary.getLastBooking(), summary.getNextBooking()));
+            }
+        }
+        if (!stale.isEmpty()) {
+            refresh(stale, now);
+            stale.forEach(s -> summaries.put(s.getItemId(), s));
+        }
+        return summaries;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelayString = "${shareit.item-summary.roll-delay-ms:60000}",
+            fixedDelayString = "${shareit.item-summary.roll-delay-ms:60000}")
+    public int rollSummaries() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ItemBookingSummary> summaries = new ArrayList<>(summaryRepository
+                .findStartedSummary(now, OffsetPageRequest.of(0, rollBatchSize)));
+        summaryRepository.findItemIdWithoutSummary(OffsetPageRequest.of(0, rollBatchSize))
+                .forEach(itemId -> summaries.add(new ItemBookingSummary(itemId, null, null)));
+        if (summaries.isEmpty()) {
+            return 0;
+        }
+        refresh(summaries, now);
+        summaryRepository.saveAll(summaries);
+        log.info("Обновлены сводки бронирований для {} вещей", summaries.size());
+        return summaries.size();
+    }
+
+    private boolean isStale(ItemBookingSummary summary, LocalDateTime now) {
+        return summary.getNextBooking() != null && !summary.getNextBooking().getStart().isAfter(now);
+    }
+
+    private void refresh(List<ItemBookingSummary> summaries, LocalDateTime now) {
+        List<Long> itemIds = summaries.stream()
+                .map(ItemBookingSummary::getItemId)
+                .collect(Collectors.toList());
+        Map<Long, Booking> lastBookings = toItemMap(bookingRepository
+                .findLastBookingByItem_IdIn(itemIds, Status.APPROVED, now));
+        Map<Long, Booking> nextBookings = toItemMap(bookingRepository
+                .findNextBookingByItem_IdIn(itemIds, Status.APPROVED, now));
+        for (ItemBookingSummary summary : summaries) {
+            summary.setLastBooking(lastBookings.get(summary.getItemId()));
+            summary.setNextBooking(nextBookings.get(summary.getItemId()));
+        }
+    }
+
+    private Map<Long, Booking> toItemMap(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(b -> b.getItem().getId(), Function.identity(), (first, second) -> first));
+    }
+}
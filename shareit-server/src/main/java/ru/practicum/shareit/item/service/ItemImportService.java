@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface ItemImportService {
+    ImportSummary importItems(InputStream body, long userId, Consumer<ImportResultDto> results);
+}
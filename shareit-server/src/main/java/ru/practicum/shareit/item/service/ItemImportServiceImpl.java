@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.bulk.BulkImportReader;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemImportServiceImpl implements ItemImportService {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final BulkImportReader importReader;
+    @Value("${shareit.item-import.batch-size:500}")
+    private int batchSize = 500;
+
+    @Override
+    public ImportSummary importItems(InputStream body, long userId, Consumer<ImportResultDto> results) {
+        userService.validateUser(userId);
+        ImportSummary summary = importReader.read(body, ItemDto.class, batchSize,
+                batch -> itemService.saveItems(batch, userId), results);
+        log.info("Импорт вещей пользователя с id = {}: обработано строк {}, с ошибками {}", userId, summary.getRows(),
+                summary.getErrors());
+        return summary;
+    }
+}
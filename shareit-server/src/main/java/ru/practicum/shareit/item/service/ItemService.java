@@ -1,11 +1,13 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.bulk.ImportResultDto;
 import ru.practicum.shareit.item.dto.CommentResearchDto;
 import ru.practicum.shareit.item.dto.CommentResponseDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ItemService {
     ItemDto getItem(long id, long userId);
@@ -16,9 +18,15 @@ public interface ItemService {
 
     ItemDto saveItem(ItemDto request, long userId);
 
-    List<ItemDto> searchItem(String search, long userId);
+    List<ImportResultDto> saveItems(Map<Long, ItemDto> requests, long userId);
+
+    List<ItemDto> searchItem(String search, long userId, long from, long size);
+
+    List<String> autocompleteItem(String prefix, long userId, int size);
 
     Item getItemToBooking(long id);
 
+    Item lockItem(long id);
+
     CommentResponseDto saveComment(long itemId, long userId, CommentResearchDto research);
 }
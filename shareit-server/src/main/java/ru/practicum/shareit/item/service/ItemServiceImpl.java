@@ -7,6 +7,7 @@ import ru.practicum.shareit.booking.dto.BookingResponseToItemDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.bulk.ImportResultDto;
 import ru.practicum.shareit.exception.AnotherUserException;
 import ru.practicum.shareit.exception.NotBookingException;
 import ru.practicum.shareit.exception.NotFoundDataException;
@@ -17,15 +18,28 @@ import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.response.CommentRepositoryJpa;
 import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.item.search.ItemAutocompleteIndex;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemTokenIndex;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.request.service.ItemRequestFeedService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,10 +53,17 @@ public class ItemServiceImpl implements ItemService {
     private final BookingMapper bookingMapper;
     private final CommentMapper commentMapper;
     private final CommentRepositoryJpa commentRepositoryJpa;
+    private final ItemBookingSummaryService summaryService;
+    private final ItemSearchIndex searchIndex;
+    private final ItemSearchCache searchCache;
+    private final ItemAutocompleteIndex autocompleteIndex;
+    private final ItemTokenIndex tokenIndex;
+    private final ItemRequestFeedService feedService;
 
     @Override
+    @Transactional(readOnly = true)
     public ItemDto getItem(long id, long userId) {
-        User user = userService.getUser(userId);
+        userService.validateUser(userId);
         Optional<Item> item = itemRepository.findById(id);
         if (item.isEmpty()) {
             throw new NotFoundDataException("Вещь с id = " + id + " не найдена");
@@ -50,49 +71,51 @@ public class ItemServiceImpl implements ItemService {
         ItemDto itemResponse = itemMapper.toDto(item.get());
         BookingResponseToItemDto nextBooking = null;
         BookingResponseToItemDto lastBooking = null;
-        if (item.get().getOwner().getId().longValue() == user.getId()) {
-            if (!bookingRepositoryJpa.findBookingByItemAndStartAfter(id, Status.APPROVED).isEmpty()) {
-                nextBooking = bookingMapper.toBookingToItem(bookingRepositoryJpa
-                        .findBookingByItemAndStartAfter(id, Status.APPROVED).get(0));
+        if (item.get().getOwner().getId().longValue() == userId) {
+            ItemBookingSummary summary = summaryService.getSummaries(List.of(id)).get(id);
+            if (summary != null && summary.getNextBooking() != null) {
+                nextBooking = bookingMapper.toBookingToItem(summary.getNextBooking());
             }
-            if (!bookingRepositoryJpa.findBookingByItemAndStartBefore(id, Status.APPROVED).isEmpty()) {
-                lastBooking = bookingMapper.toBookingToItem(bookingRepositoryJpa
-                        .findBookingByItemAndStartBefore(id, Status.APPROVED).get(0));
+            if (summary != null && summary.getLastBooking() != null) {
+                lastBooking = bookingMapper.toBookingToItem(summary.getLastBooking());
             }
         }
         itemResponse.setNextBooking(nextBooking);
         itemResponse.setLastBooking(lastBooking);
-        if (!commentRepositoryJpa.findCommentByItem_Id(id).isEmpty()) {
-            itemResponse.setComments(commentMapper.toListCommentDto(commentRepositoryJpa
-                    .findCommentByItem_Id(id)));
+        List<Comment> comments = commentRepositoryJpa.findCommentByItem_Id(id);
+        if (!comments.isEmpty()) {
+            itemResponse.setComments(commentMapper.toListCommentDto(comments));
         }
         return itemResponse;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemDto> getItemToUser(long userId) {
-        userService.getUser(userId);
-        return itemMapper.toDtoList(itemRepository
-                        .findByOwnerIdOrderByIdAsc(userId)).stream()
-                .peek(
-                        i -> {
-                            if (!bookingRepositoryJpa.findBookingByItemAndStartAfter(i.getId(), Status.APPROVED)
-                                    .isEmpty()) {
-                                i.setNextBooking(bookingMapper.toBookingToItem(bookingRepositoryJpa
-                                        .findBookingByItemAndStartAfter(i.getId(), Status.APPROVED).get(0)));
-                            }
-                            if (!bookingRepositoryJpa.findBookingByItemAndStartBefore(i.getId(), Status.APPROVED)
-                                    .isEmpty()) {
-                                i.setLastBooking(bookingMapper.toBookingToItem(bookingRepositoryJpa
-                                        .findBookingByItemAndStartBefore(i.getId(), Status.APPROVED).get(0)));
-                            }
-                            if (!commentRepositoryJpa.findCommentByItem_Id(i.getId()).isEmpty()) {
-                            i.setComments(commentMapper.toListCommentDto(commentRepositoryJpa
-                                    .findCommentByItem_Id(i.getId())));
-                            }
-                        }
-                )
+        userService.validateUser(userId);
+        List<ItemDto> items = itemMapper.toDtoList(itemRepository.findByOwnerIdOrderByIdAsc(userId));
+        if (items.isEmpty()) {
+            return items;
+        }
+        List<Long> itemIds = items.stream()
+                .map(ItemDto::getId)
                 .collect(Collectors.toList());
+        Map<Long, ItemBookingSummary> summaries = summaryService.getSummaries(itemIds);
+        Map<Long, List<Comment>> comments = commentRepositoryJpa.findCommentByItem_IdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId()));
+        for (ItemDto item : items) {
+            ItemBookingSummary summary = summaries.get(item.getId());
+            if (summary != null && summary.getNextBooking() != null) {
+                item.setNextBooking(bookingMapper.toBookingToItem(summary.getNextBooking()));
+            }
+            if (summary != null && summary.getLastBooking() != null) {
+                item.setLastBooking(bookingMapper.toBookingToItem(summary.getLastBooking()));
+            }
+            if (comments.containsKey(item.getId())) {
+                item.setComments(commentMapper.toListCommentDto(comments.get(item.getId())));
+            }
+        }
+        return items;
     }
 
     @Override
@@ -107,6 +130,9 @@ public class ItemServiceImpl implements ItemService {
             throw new AnotherUserException("Пользователь с id = " + userId + " не имеет права " +
                     "на изменение вещи, так как не является ее владельцем");
         }
+        Item previous = new Item(item.getId(), item.getName(), item.getDescription(), item.getAvailable(),
+                null, null);
+        Long previousRequestId = item.getRequest() == null ? null : item.getRequest().getId();
         Item itemRequest = itemMapper.toItem(request);
         if (itemRequest.getName() == null) {
             itemRequest.setName(item.getName());
@@ -119,22 +145,70 @@ public class ItemServiceImpl implements ItemService {
         }
         itemRequest.setId(itemId);
         itemRequest.setOwner(item.getOwner());
-        return itemMapper.toDto(itemRepository.save(itemRequest));
+        Item savedItem = itemRepository.save(itemRequest);
+        feedService.updateAnswer(previousRequestId, savedItem);
+        searchIndex.index(savedItem);
+        searchCache.invalidate(previous, savedItem);
+        autocompleteIndex.index(savedItem);
+        tokenIndex.index(savedItem);
+        return itemMapper.toDto(savedItem);
     }
 
     @Override
     @Transactional
     public ItemDto saveItem(ItemDto request, long userId) {
-        userService.getUser(userId);
         Item item = itemMapper.toItem(request);
         item.setOwner(createUser(userId));
         if (request.getRequestId() != null) {
-            if (itemRequestJpa.findById(request.getRequestId()).isEmpty()) {
-                throw new NotFoundDataException("Запрос с id = " + request.getRequestId() + "не найден");
-            }
-            item.setRequest(itemRequestJpa.findById(request.getRequestId()).get());
+            item.setRequest(itemRequestJpa.findById(request.getRequestId()).orElseThrow(
+                    () -> new NotFoundDataException("Запрос с id = " + request.getRequestId() + "не найден")));
         }
-        return itemMapper.toDto(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        summaryService.createSummary(savedItem.getId());
+        feedService.addAnswers(List.of(savedItem));
+        searchIndex.index(savedItem);
+        searchCache.invalidate(null, savedItem);
+        autocompleteIndex.index(savedItem);
+        tokenIndex.index(savedItem);
+        return itemMapper.toDto(savedItem);
+    }
+
+    @Override
+    @Transactional
+    public List<ImportResultDto> saveItems(Map<Long, ItemDto> requests, long userId) {
+        User owner = createUser(userId);
+        Set<Long> requestIds = requests.values().stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> itemRequests = itemRequestJpa.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        List<ImportResultDto> results = new ArrayList<>();
+        Map<Long, Item> items = new LinkedHashMap<>();
+        requests.forEach((row, request) -> {
+            if (request.getRequestId() != null && !itemRequests.containsKey(request.getRequestId())) {
+                results.add(new ImportResultDto(row, null,
+                        "Запрос с id = " + request.getRequestId() + " не найден"));
+                return;
+            }
+            Item item = itemMapper.toItem(request);
+            item.setId(null);
+            item.setOwner(owner);
+            item.setRequest(itemRequests.get(request.getRequestId()));
+            items.put(row, item);
+        });
+        List<Item> savedItems = itemRepository.saveAll(items.values());
+        summaryService.createSummaries(savedItems.stream().map(Item::getId).collect(Collectors.toList()));
+        feedService.addAnswers(savedItems);
+        savedItems.forEach(item -> {
+            searchIndex.index(item);
+            autocompleteIndex.index(item);
+            tokenIndex.index(item);
+        });
+        searchCache.invalidate(savedItems);
+        items.forEach((row, item) -> results.add(new ImportResultDto(row, item.getId(), null)));
+        results.sort(Comparator.comparingLong(ImportResultDto::getRow));
+        return results;
     }
 
     private User createUser(long idUser) {
@@ -142,16 +216,33 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
-    public List<ItemDto> searchItem(String search, long userId) {
-        userService.getUser(userId);
-        List<ItemDto> items = new ArrayList<>();
-        if (!search.isBlank()) {
-            items = itemMapper.toDtoList(itemRepository.findByNameAndDescription(search, search));
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItem(String search, long userId, long from, long size) {
+        userService.validateUser(userId);
+        if (search.isBlank()) {
+            return new ArrayList<>();
         }
-        return items;
+        List<Long> ids = searchCache.search(search, from, size);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, ItemDto> items = itemRepository.findItemDtoByIdIn(ids).stream()
+                .collect(Collectors.toMap(ItemDto::getId, Function.identity()));
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<String> autocompleteItem(String prefix, long userId, int size) {
+        userService.validateUser(userId);
+        return autocompleteIndex.complete(prefix, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Item getItemToBooking(long id) {
         Optional<Item> item = itemRepository.findById(id);
         if (item.isEmpty()) {
@@ -160,6 +251,13 @@ public class ItemServiceImpl implements ItemService {
         return item.get();
     }
 
+    @Override
+    @Transactional
+    public Item lockItem(long id) {
+        return itemRepository.findItemByIdForUpdate(id).orElseThrow(
+                () -> new NotFoundDataException("Вещь с id = " + id + " не найдена"));
+    }
+
     @Override
     @Transactional
     public CommentResponseDto saveComment(long itemId, long userId, CommentResearchDto research) {
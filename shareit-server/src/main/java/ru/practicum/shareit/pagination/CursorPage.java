@@ -0,0 +1,34 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public static <E, T> CursorPage<T> of(List<E> entities, long size, Function<E, PageCursor> cursor,
+                                          Function<List<E>, List<T>> mapper) {
+        String next = null;
+        if (!entities.isEmpty() && entities.size() >= size) {
+            next = cursor.apply(entities.get(entities.size() - 1)).encode();
+        }
+        return new CursorPage<>(mapper.apply(entities), next);
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(content);
+    }
+}
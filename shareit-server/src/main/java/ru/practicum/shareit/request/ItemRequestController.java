@@ -2,13 +2,17 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import java.util.List;
 
@@ -29,29 +33,40 @@ public class ItemRequestController {
 
     @GetMapping
     public List<ItemRequestsResponseDto> getRequestsToUser(@RequestHeader("X-Sharer-User-Id") Long userId) {
-        log.info("Получение всех запросов пользователя с id = {}: {}", userId,
-                itemRequestService.getRequestsToUser(userId));
-        return itemRequestService.getRequestsToUser(userId);
+        List<ItemRequestsResponseDto> requests = itemRequestService.getRequestsToUser(userId);
+        log.info("Получение всех запросов пользователя с id = {}: {}", userId, requests);
+        return requests;
     }
 
     @GetMapping("/all")
-    public List<ItemRequestsResponseDto> getRequestsToAnotherUsers(
+    public ResponseEntity<List<ItemRequestsResponseDto>> getRequestsToAnotherUsers(
             @RequestHeader("X-Sharer-User-Id") Long userId,
-             @RequestParam(defaultValue = "0") @Min(0) Long from,
-             @RequestParam(required = false) @Min(1) Long size) {
-        if (size == null) {
-            size = Long.MAX_VALUE;
-        }
-            log.info("Получение всех запросов других пользователь пользователем с userId = {}, from = {}, size = {}",
-                    userId, from, size);
-            return itemRequestService.getRequestsToAnotherUsers(userId, from, size);
+            @RequestParam(defaultValue = "0") @Min(0) Long from,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) Long size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            log.info("Получение всех запросов других пользователь пользователем с userId = {}, cursor = {}, " +
+                    "size = {}", userId, cursor, size);
+            return itemRequestService.getRequestsToAnotherUsers(userId, PageCursor.decode(cursor), size)
+                    .toResponseEntity();
         }
+        log.info("Получение всех запросов других пользователь пользователем с userId = {}, from = {}, size = {}",
+                userId, from, size);
+        return ResponseEntity.ok(itemRequestService.getRequestsToAnotherUsers(userId, from, size));
+    }
 
     @GetMapping("/{requestId}")
     public ItemRequestsResponseDto getRequestById(@RequestHeader("X-Sharer-User-Id") Long userId,
                                                   @PathVariable Long requestId) {
-        log.info("Получение запроса пользователем с id = {}: {}", userId,
-                itemRequestService.getRequest(userId, requestId));
-        return itemRequestService.getRequest(userId, requestId);
+        ItemRequestsResponseDto request = itemRequestService.getRequest(userId, requestId);
+        log.info("Получение запроса пользователем с id = {}: {}", userId, request);
+        return request;
+    }
+
+    @GetMapping("/{requestId}/suggestions")
+    public List<ItemToRequestResponse> getSuggestions(@RequestHeader("X-Sharer-User-Id") Long userId,
+                                                      @PathVariable Long requestId) {
+        log.info("Получение подобранных вещей для запроса с id = {} пользователем с id = {}", requestId, userId);
+        return itemRequestService.getSuggestions(userId, requestId);
     }
 }
@@ -17,4 +17,10 @@ public class ItemRequestsResponseDto {
     private String description;
     private LocalDateTime created;
     private List<ItemToRequestResponse> items = new ArrayList<>();
+
+    public ItemRequestsResponseDto(Long id, String description, LocalDateTime created) {
+        this.id = id;
+        this.description = description;
+        this.created = created;
+    }
 }
@@ -1,9 +1,11 @@
 package ru.practicum.shareit.request.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
 
 import java.util.List;
 
@@ -15,4 +17,14 @@ public interface ItemRequestMapper {
 
     List<ItemRequestsResponseDto> toDtoList(List<ItemRequest> itemRequests);
 
+    @Mapping(target = "requestId", source = "id")
+    @Mapping(target = "ownerId", source = "owner.id")
+    @Mapping(target = "items", ignore = true)
+    ItemRequestFeed toFeed(ItemRequest itemRequest);
+
+    @Mapping(target = "id", source = "requestId")
+    ItemRequestsResponseDto toDto(ItemRequestFeed feed);
+
+    List<ItemRequestsResponseDto> toFeedDtoList(List<ItemRequestFeed> feed);
+
 }
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.request.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.List;
+
+@Converter
+public class ItemAnswersConverter implements AttributeConverter<List<ItemToRequestResponse>, String> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ItemToRequestResponse>> TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<ItemToRequestResponse> items) {
+        if (items == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось сохранить ответы на запрос", e);
+        }
+    }
+
+    @Override
+    public List<ItemToRequestResponse> convertToEntityAttribute(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(json, TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Не удалось прочитать ответы на запрос", e);
+        }
+    }
+}
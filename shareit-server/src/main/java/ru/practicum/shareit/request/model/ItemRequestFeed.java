@@ -0,0 +1,29 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_request_feed")
+public class ItemRequestFeed {
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+    @Column(name = "owner_id")
+    private Long ownerId;
+    private String description;
+    private LocalDateTime created;
+    @Convert(converter = ItemAnswersConverter.class)
+    private List<ItemToRequestResponse> items;
+}
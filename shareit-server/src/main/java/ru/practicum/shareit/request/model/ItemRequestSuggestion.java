@@ -0,0 +1,28 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_request_suggestion")
+public class ItemRequestSuggestion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_request_suggestion_seq")
+    @SequenceGenerator(name = "item_request_suggestion_seq", sequenceName = "item_request_suggestion_seq",
+            allocationSize = 50)
+    @Column(name = "suggestion_id")
+    private Long id;
+    @Column(name = "request_id")
+    private Long requestId;
+    @Column(name = "item_id")
+    private Long itemId;
+    private Double score;
+}
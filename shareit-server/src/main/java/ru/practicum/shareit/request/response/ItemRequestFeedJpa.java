@@ -0,0 +1,39 @@
+package ru.practicum.shareit.request.response;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ItemRequestFeedJpa extends JpaRepository<ItemRequestFeed, Long> {
+    @Query("select f from ItemRequestFeed as f where f.ownerId = :ownerId order by f.created desc, f.requestId desc")
+    List<ItemRequestFeed> findFeedByOwnerId(Long ownerId);
+
+    @Query("select f from ItemRequestFeed as f where f.ownerId != :ownerId " +
+            "order by f.created desc, f.requestId desc")
+    List<ItemRequestFeed> findFeedNotByOwnerId(Long ownerId, Pageable pageable);
+
+    @Query("select f from ItemRequestFeed as f where f.ownerId != :ownerId " +
+            "and (f.created < :created or (f.created = :created and f.requestId < :id)) " +
+            "order by f.created desc, f.requestId desc")
+    List<ItemRequestFeed> findFeedNotByOwnerIdAfter(Long ownerId, LocalDateTime created, Long id, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from ItemRequestFeed as f where f.requestId in :requestIds order by f.requestId asc")
+    List<ItemRequestFeed> findFeedByRequestIdInForUpdate(Collection<Long> requestIds);
+
+    @Query("select f from ItemRequestFeed as f where f.items is null order by f.requestId asc")
+    List<ItemRequestFeed> findStaleFeed(Pageable pageable);
+
+    @Modifying
+    @Query("update ItemRequestFeed as f set f.items = null where f.requestId in " +
+            "(select it.request.id from Item as it where it.owner.id = :ownerId)")
+    int resetFeedAnsweredByOwnerId(Long ownerId);
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.response;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.request.model.ItemRequestSuggestion;
+
+import java.util.List;
+
+public interface ItemRequestSuggestionJpa extends JpaRepository<ItemRequestSuggestion, Long> {
+    @Query("select new ru.practicum.shareit.item.dto.ItemToRequestResponse(it.id, it.name, it.description, " +
+            "it.available, it.request.id) from ItemRequestSuggestion as s, Item as it " +
+            "where s.itemId = it.id and s.requestId = :requestId and it.available = true " +
+            "order by s.score desc, it.id asc")
+    List<ItemToRequestResponse> findSuggestedItemsByRequestId(Long requestId);
+}
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.request.service;
+
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.List;
+
+public interface ItemRequestFeedService {
+    void createFeed(ItemRequest request);
+
+    void addAnswers(List<Item> items);
+
+    void updateAnswer(Long previousRequestId, Item item);
+
+    void resetAnswersOfOwner(long ownerId);
+
+    List<ItemRequestsResponseDto> getFeedByOwner(long ownerId);
+
+    List<ItemRequestsResponseDto> getFeedNotByOwner(long ownerId, long from, long size);
+
+    CursorPage<ItemRequestsResponseDto> getFeedNotByOwner(long ownerId, PageCursor cursor, long size);
+
+    int rollFeed();
+}
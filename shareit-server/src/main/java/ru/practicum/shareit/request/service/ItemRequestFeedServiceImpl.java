@@ -0,0 +1,184 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
+import ru.practicum.shareit.request.response.ItemRequestFeedJpa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemRequestFeedServiceImpl implements ItemRequestFeedService {
+    private final ItemRequestFeedJpa feedRepository;
+    private final ItemRepositoryJpa itemRepository;
+    private final ItemRequestMapper itemRequestMapper;
+    private final ItemMapper itemMapper;
+    @Value("${shareit.request-feed.roll-batch-size:500}")
+    private int rollBatchSize = 500;
+
+    @Override
+    @Transactional
+    public void createFeed(ItemRequest request) {
+        ItemRequestFeed feed = itemRequestMapper.toFeed(request);
+        feed.setItems(new ArrayList<>());
+        feedRepository.save(feed);
+    }
+
+    @Override
+    @Transactional
+    public void addAnswers(List<Item> items) {
+        Map<Long, ItemRequest> requests = new LinkedHashMap<>();
+        items.stream()
+                .map(Item::getRequest)
+                .filter(Objects::nonNull)
+                .forEach(request -> requests.putIfAbsent(request.getId(), request));
+        if (requests.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemRequestFeed> feeds = lockFeeds(requests.keySet());
+        for (Item item : items) {
+            if (item.getRequest() == null) {
+                continue;
+            }
+            ItemRequestFeed feed = feeds.computeIfAbsent(item.getRequest().getId(),
+                    requestId -> itemRequestMapper.toFeed(requests.get(requestId)));
+            putAnswer(feed, item);
+        }
+        feedRepository.saveAll(feeds.values());
+    }
+
+    @Override
+    @Transactional
+    public void updateAnswer(Long previousRequestId, Item item) {
+        Long requestId = item.getRequest() == null ? null : item.getRequest().getId();
+        Set<Long> requestIds = new HashSet<>();
+        if (previousRequestId != null) {
+            requestIds.add(previousRequestId);
+        }
+        if (requestId != null) {
+            requestIds.add(requestId);
+        }
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        Map<Long, ItemRequestFeed> feeds = lockFeeds(requestIds);
+        ItemRequestFeed previous = feeds.get(previousRequestId);
+        if (previous != null && previous.getItems() != null && !previousRequestId.equals(requestId)) {
+            previous.setItems(previous.getItems().stream()
+                    .filter(answer -> !answer.getId().equals(item.getId()))
+                    .collect(Collectors.toList()));
+        }
+        if (requestId != null) {
+            putAnswer(feeds.computeIfAbsent(requestId, id -> itemRequestMapper.toFeed(item.getRequest())), item);
+        }
+        feedRepository.saveAll(feeds.values());
+    }
+
+    @Override
+    @Transactional
+    public void resetAnswersOfOwner(long ownerId) {
+        int reset = feedRepository.resetFeedAnsweredByOwnerId(ownerId);
+        if (reset > 0) {
+            log.info("Ответы пользователя с id = {} удалены из ленты {} запросов", ownerId, reset);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestsResponseDto> getFeedByOwner(long ownerId) {
+        return toDtoList(feedRepository.findFeedByOwnerId(ownerId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestsResponseDto> getFeedNotByOwner(long ownerId, long from, long size) {
+        return toDtoList(feedRepository.findFeedNotByOwnerId(ownerId, OffsetPageRequest.of(from, size)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ItemRequestsResponseDto> getFeedNotByOwner(long ownerId, PageCursor cursor, long size) {
+        List<ItemRequestFeed> feed = feedRepository.findFeedNotByOwnerIdAfter(ownerId, cursor.getPosition(),
+                cursor.getId(), OffsetPageRequest.of(0, size));
+        return CursorPage.of(feed, size, f -> new PageCursor(f.getCreated(), f.getRequestId()), this::toDtoList);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(initialDelayString = "${shareit.request-feed.roll-delay-ms:60000}",
+            fixedDelayString = "${shareit.request-feed.roll-delay-ms:60000}")
+    public int rollFeed() {
+        List<ItemRequestFeed> stale = feedRepository.findStaleFeed(OffsetPageRequest.of(0, rollBatchSize));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        refresh(stale);
+        feedRepository.saveAll(stale);
+        log.info("Обновлены ответы в ленте для {} запросов", stale.size());
+        return stale.size();
+    }
+
+    private Map<Long, ItemRequestFeed> lockFeeds(Set<Long> requestIds) {
+        return feedRepository.findFeedByRequestIdInForUpdate(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequestFeed::getRequestId, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    private void putAnswer(ItemRequestFeed feed, Item item) {
+        if (feed.getItems() == null) {
+            return;
+        }
+        List<ItemToRequestResponse> answers = feed.getItems().stream()
+                .filter(answer -> !answer.getId().equals(item.getId()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        answers.add(itemMapper.toDtoItemToRequest(item));
+        answers.sort(Comparator.comparing(ItemToRequestResponse::getId));
+        feed.setItems(answers);
+    }
+
+    private List<ItemRequestsResponseDto> toDtoList(List<ItemRequestFeed> feed) {
+        List<ItemRequestFeed> stale = feed.stream()
+                .filter(f -> f.getItems() == null)
+                .collect(Collectors.toList());
+        if (!stale.isEmpty()) {
+            refresh(stale);
+        }
+        return itemRequestMapper.toFeedDtoList(feed);
+    }
+
+    private void refresh(List<ItemRequestFeed> feed) {
+        Map<Long, List<ItemToRequestResponse>> answers = itemRepository.findByRequest_IdIn(feed.stream()
+                        .map(ItemRequestFeed::getRequestId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .sorted(Comparator.comparing(ItemToRequestResponse::getId))
+                .collect(Collectors.groupingBy(ItemToRequestResponse::getRequestId));
+        feed.forEach(f -> f.setItems(answers.getOrDefault(f.getRequestId(), Collections.emptyList())));
+    }
+}
@@ -0,0 +1,129 @@
+package ru.practicum.shareit.request.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.transaction.AfterCommit;
+import ru.practicum.shareit.user.model.User;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class ItemRequestMatchingQueue {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final ItemRequestMatchingService matchingService;
+    private final BlockingQueue<ItemRequest> pending;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-request-matcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int batchSize;
+    private final Timer batchTimer;
+    private final Counter matched;
+    private final Counter dropped;
+
+    public ItemRequestMatchingQueue(ItemRequestMatchingService matchingService, MeterRegistry meterRegistry,
+                                    @Value("${shareit.request-match.queue-capacity:10000}") int capacity,
+                                    @Value("${shareit.request-match.batch-size:200}") int batchSize) {
+        this.matchingService = matchingService;
+        this.pending = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.batchTimer = Timer.builder("shareit.request.match.batch")
+                .register(meterRegistry);
+        this.matched = Counter.builder("shareit.request.match.requests")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("shareit.request.match.dropped")
+                .register(meterRegistry);
+        Gauge.builder("shareit.request.match.pending", pending, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public void submit(ItemRequest request) {
+        ItemRequest snapshot = new ItemRequest(request.getId(), request.getDescription(), request.getCreated(),
+                new User(request.getOwner().getId(), null, null));
+        AfterCommit.run(() -> enqueue(snapshot));
+    }
+
+    public boolean isIdle() {
+        return pending.isEmpty() && !draining.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Подбор вещей не завершен, в очереди осталось {} запросов", pending.size());
+        }
+    }
+
+    private void enqueue(ItemRequest request) {
+        if (!pending.offer(request)) {
+            dropped.increment();
+            log.warn("Очередь подбора вещей переполнена, запрос с id = {} пропущен", request.getId());
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("Подбор вещей остановлен, запрос с id = {} пропущен", request.getId());
+            }
+        }
+    }
+
+    private void drain() {
+        List<ItemRequest> batch = new ArrayList<>(batchSize);
+        do {
+            try {
+                while (pending.drainTo(batch, batchSize) > 0) {
+                    matchBatch(batch);
+                    batch.clear();
+                }
+            } finally {
+                draining.set(false);
+            }
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private void matchBatch(List<ItemRequest> batch) {
+        try {
+            batchTimer.record(() -> matchingService.match(batch));
+            matched.increment(batch.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Не удалось сохранить подборку для {} запросов, повтор по одному: {}", batch.size(),
+                    e.getMessage());
+            batch.forEach(this::matchOne);
+        } catch (RuntimeException e) {
+            log.error("Не удалось подобрать вещи для {} запросов", batch.size(), e);
+        }
+    }
+
+    private void matchOne(ItemRequest request) {
+        try {
+            matchingService.match(List.of(request));
+            matched.increment();
+        } catch (RuntimeException e) {
+            log.warn("Не удалось подобрать вещи для запроса с id = {}: {}", request.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.request.service;
+
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.List;
+
+public interface ItemRequestMatchingService {
+    int match(List<ItemRequest> requests);
+
+    List<ItemToRequestResponse> getSuggestions(long requestId);
+}
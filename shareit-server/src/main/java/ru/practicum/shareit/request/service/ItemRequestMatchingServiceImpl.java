@@ -0,0 +1,42 @@
+package ru.practicum.shareit.request.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.item.search.ItemMatchIndex;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestSuggestion;
+import ru.practicum.shareit.request.response.ItemRequestSuggestionJpa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ItemRequestMatchingServiceImpl implements ItemRequestMatchingService {
+    private final ItemMatchIndex matchIndex;
+    private final ItemRequestSuggestionJpa suggestionJpa;
+    @Value("${shareit.request-match.top-k:5}")
+    private int topK = 5;
+
+    @Override
+    @Transactional
+    public int match(List<ItemRequest> requests) {
+        List<ItemRequestSuggestion> suggestions = new ArrayList<>();
+        for (ItemRequest request : requests) {
+            matchIndex.match(request.getDescription(), request.getOwner().getId(), topK)
+                    .forEach((itemId, score) -> suggestions.add(new ItemRequestSuggestion(null, request.getId(),
+                            itemId, score)));
+        }
+        suggestionJpa.saveAll(suggestions);
+        return suggestions.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemToRequestResponse> getSuggestions(long requestId) {
+        return suggestionJpa.findSuggestedItemsByRequestId(requestId);
+    }
+}
@@ -1,5 +1,8 @@
 package ru.practicum.shareit.request.service;
 
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 
@@ -12,6 +15,10 @@ public interface ItemRequestService {
 
     List<ItemRequestsResponseDto> getRequestsToAnotherUsers(long userId, long from, long size);
 
+    CursorPage<ItemRequestsResponseDto> getRequestsToAnotherUsers(long userId, PageCursor cursor, long size);
+
     ItemRequestsResponseDto getRequest(long userId, long requestId);
 
+    List<ItemToRequestResponse> getSuggestions(long userId, long requestId);
+
 }
@@ -7,6 +7,8 @@ import ru.practicum.shareit.exception.NotFoundDataException;
 import ru.practicum.shareit.item.dto.ItemToRequestResponse;
 import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
@@ -15,12 +17,7 @@ import ru.practicum.shareit.request.response.ItemRequestJpa;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +27,9 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final UserService userService;
     private final ItemRequestMapper itemRequestMapper;
     private final ItemMapper itemMapper;
+    private final ItemRequestFeedService feedService;
+    private final ItemRequestMatchingService matchingService;
+    private final ItemRequestMatchingQueue matchingQueue;
 
     @Override
     @Transactional
@@ -37,52 +37,51 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         User user = userService.getUser(userId);
         ItemRequest itemRequest = itemRequestMapper.toRequest(request);
         itemRequest.setOwner(user);
-        return itemRequestMapper.toDto(itemRequestJpa.save(itemRequest));
+        ItemRequest saved = itemRequestJpa.save(itemRequest);
+        feedService.createFeed(saved);
+        matchingQueue.submit(saved);
+        return itemRequestMapper.toDto(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestsResponseDto> getRequestsToUser(long userId) {
-        User user = userService.getUser(userId);
-        List<ItemRequestsResponseDto> requests = itemRequestMapper
-                .toDtoList(itemRequestJpa.findItemRequestByOwner_IdOrderByCreatedDesc(user.getId()));
-        return getItemRequestsResponseDto(requests);
+        userService.validateUser(userId);
+        return feedService.getFeedByOwner(userId);
     }
 
-    private List<ItemRequestsResponseDto> getItemRequestsResponseDto(List<ItemRequestsResponseDto> requests) {
-        List<Long> requestIds = requests.stream()
-                .map(ItemRequestsResponseDto::getId)
-                .collect(toList());
-        Map<Long, List<ItemToRequestResponse>> itemsByRequest = itemRepositoryJpa.findByRequest_IdIn(requestIds)
-                .stream()
-                .map(itemMapper::toDtoItemToRequest)
-                .collect(groupingBy(ItemToRequestResponse::getRequestId, toList()));
-        if (!itemsByRequest.isEmpty()) {
-            requests.stream()
-                    .peek(r -> r.setItems(itemsByRequest.getOrDefault(r.getId(), Collections.emptyList())))
-                    .collect(toList());
-        }
-        return requests;
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestsResponseDto> getRequestsToAnotherUsers(long userId, long from, long size) {
+        userService.validateUser(userId);
+        return feedService.getFeedNotByOwner(userId, from, size);
     }
 
     @Override
-    public List<ItemRequestsResponseDto> getRequestsToAnotherUsers(long userId, long from, long size) {
-        User user = userService.getUser(userId);
-        List<ItemRequestsResponseDto> requests = itemRequestMapper.toDtoList(itemRequestJpa
-                        .findItemRequestNotByOwner_IdOrderByCreatedDesc(user.getId())).stream()
-                .skip(from)
-                .limit(size)
-                .collect(toList());
-        return getItemRequestsResponseDto(requests);
+    @Transactional(readOnly = true)
+    public CursorPage<ItemRequestsResponseDto> getRequestsToAnotherUsers(long userId, PageCursor cursor, long size) {
+        userService.validateUser(userId);
+        return feedService.getFeedNotByOwner(userId, cursor, size);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestsResponseDto getRequest(long userId, long requestId) {
-        userService.getUser(userId);
-        if (itemRequestJpa.findById(requestId).isEmpty()) {
-            throw new NotFoundDataException("Запроса с id = " + requestId + " не существует");
-        }
-        ItemRequestsResponseDto request = itemRequestMapper.toDto(itemRequestJpa.findById(requestId).get());
+        userService.validateUser(userId);
+        ItemRequest itemRequest = itemRequestJpa.findById(requestId).orElseThrow(
+                () -> new NotFoundDataException("Запроса с id = " + requestId + " не существует"));
+        ItemRequestsResponseDto request = itemRequestMapper.toDto(itemRequest);
         request.setItems(itemMapper.toDtoListItemsRequest(itemRepositoryJpa.findByRequest_Id(requestId)));
         return request;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemToRequestResponse> getSuggestions(long userId, long requestId) {
+        userService.validateUser(userId);
+        if (!itemRequestJpa.existsById(requestId)) {
+            throw new NotFoundDataException("Запроса с id = " + requestId + " не существует");
+        }
+        return matchingService.getSuggestions(requestId);
+    }
 }
@@ -1,26 +1,65 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.bulk.ImportResponse;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserImportService;
 import ru.practicum.shareit.user.service.UserService;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping(path = "/users")
 @AllArgsConstructor
 @Slf4j
+@Validated
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping()
-    public List<User> getAllUser() {
-        log.info("Получение всех пользователей");
-        return userService.getAllUser();
+    public ResponseEntity<List<User>> getAllUser(@RequestParam(defaultValue = "0") @Min(0) Long cursor,
+                                                 @RequestParam(defaultValue = "100") @Min(1) @Max(1000) Long size) {
+        log.info("Получение пользователей, cursor = {}, size = {}", cursor, size);
+        return userService.getUsers(cursor, size).toResponseEntity();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        log.info("Потоковая выгрузка всех пользователей");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(output -> {
+            try (SequenceWriter writer = objectMapper.writerFor(User.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(output)) {
+                userService.streamUsers(user -> {
+                    try {
+                        writer.write(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        });
     }
 
     @GetMapping(value = "/{userId}")
@@ -35,6 +74,12 @@ public class UserController {
         return userService.saveUser(request);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> saveUsers(InputStream body) {
+        log.info("Массовое сохранение пользователей");
+        return ImportResponse.stream(objectMapper, results -> userImportService.importUsers(body, results));
+    }
+
     @PatchMapping(value = "/{userId}")
     public User updateUser(@PathVariable Long userId, @RequestBody UserDto request) {
         log.info("Обновление пользователя {}", request);
@@ -1,7 +1,31 @@
 package ru.practicum.shareit.user.response;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 public interface UserRepositoryJpa extends JpaRepository<User, Long> {
+    boolean existsByEmail(String email);
+
+    boolean existsByEmailAndIdNot(String email, Long id);
+
+    @Query("select u from User as u where u.id > :id order by u.id asc")
+    List<User> findUserAfter(long id, Pageable pageable);
+
+    @Query("select u.email from User as u where u.email in :emails")
+    List<String> findEmailByEmailIn(Collection<String> emails);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new ru.practicum.shareit.user.model.User(u.id, u.name, u.email) from User as u order by u.id asc")
+    Stream<User> streamAll();
 }
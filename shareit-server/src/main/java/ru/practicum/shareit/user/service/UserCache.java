@@ -0,0 +1,55 @@
+package ru.practicum.shareit.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.datasource.ReplicaRoutingDataSource;
+import ru.practicum.shareit.transaction.AfterCommit;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class UserCache {
+    private final Cache<Long, User> cache;
+
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${shareit.user.cache.max-size:10000}") long maxSize,
+                     @Value("${shareit.user.cache.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public Optional<User> get(long id) {
+        User user = cache.getIfPresent(id);
+        return user == null ? Optional.empty() : Optional.of(copy(user));
+    }
+
+    public boolean contains(long id) {
+        return cache.getIfPresent(id) != null;
+    }
+
+    public void put(User user) {
+        if (ReplicaRoutingDataSource.isCurrentTransactionOnReplica()) {
+            return;
+        }
+        cache.put(user.getId(), copy(user));
+    }
+
+    public void invalidate(long id) {
+        cache.invalidate(id);
+        AfterCommit.run(() -> cache.invalidate(id));
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getName(), user.getEmail());
+    }
+}
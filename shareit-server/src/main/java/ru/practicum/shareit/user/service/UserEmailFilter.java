@@ -0,0 +1,93 @@
+package ru.practicum.shareit.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+@Slf4j
+@Component
+public class UserEmailFilter {
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final UserRepositoryJpa userRepository;
+    private final long expectedSize;
+    private final double falsePositiveRate;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    public UserEmailFilter(UserRepositoryJpa userRepository, MeterRegistry meterRegistry,
+                           @Value("${shareit.user.email-filter.expected-size:100000}") long expectedSize,
+                           @Value("${shareit.user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedSize = expectedSize;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedSize, falsePositiveRate);
+        this.absent = Counter.builder("shareit.user.email.filter")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.present = Counter.builder("shareit.user.email.filter")
+                .tag("result", "present")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("shareit.user.email.filter.false.positives")
+                .register(meterRegistry);
+        Gauge.builder("shareit.user.email.filter.expected.fpp", this, f -> f.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    @Scheduled(initialDelayString = "${shareit.user.email-filter.rebuild-delay-ms:3600000}",
+            fixedDelayString = "${shareit.user.email-filter.rebuild-delay-ms:3600000}")
+    public synchronized void rebuild() {
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedSize, 2 * userRepository.count()),
+                falsePositiveRate);
+        building = rebuilt;
+        long lastId = 0;
+        long loaded = 0;
+        List<User> users;
+        do {
+            users = userRepository.findUserAfter(lastId, OffsetPageRequest.of(0, LOAD_BATCH_SIZE));
+            users.forEach(user -> rebuilt.put(user.getEmail()));
+            loaded += users.size();
+            if (!users.isEmpty()) {
+                lastId = users.get(users.size() - 1).getId();
+            }
+        } while (users.size() == LOAD_BATCH_SIZE);
+        filter = rebuilt;
+        building = null;
+        log.info("Фильтр email пользователей построен, загружено {} адресов", loaded);
+    }
+
+    public boolean mightContain(String email) {
+        if (filter.mightContain(email)) {
+            present.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    public void recordFalsePositives(long count) {
+        falsePositives.increment(count);
+    }
+
+    public void put(String email) {
+        BloomFilter pending = building;
+        if (pending != null) {
+            pending.put(email);
+        }
+        filter.put(email);
+    }
+}
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.user.service;
+
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface UserImportService {
+    ImportSummary importUsers(InputStream body, Consumer<ImportResultDto> results);
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.bulk.BulkImportReader;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+    private final UserService userService;
+    private final BulkImportReader importReader;
+    @Value("${shareit.user-import.batch-size:500}")
+    private int batchSize = 500;
+
+    @Override
+    public ImportSummary importUsers(InputStream body, Consumer<ImportResultDto> results) {
+        ImportSummary summary = importReader.read(body, UserDto.class, batchSize, userService::saveUsers, results);
+        log.info("Импорт пользователей: обработано строк {}, с ошибками {}", summary.getRows(), summary.getErrors());
+        return summary;
+    }
+}
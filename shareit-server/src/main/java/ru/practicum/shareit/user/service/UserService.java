@@ -1,18 +1,28 @@
 package ru.practicum.shareit.user.service;
 
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface UserService {
     User saveUser(UserDto request);
 
+    List<ImportResultDto> saveUsers(Map<Long, UserDto> requests);
+
     User updateUser(Long id, UserDto request);
 
     void removeUser(Long id);
 
     User getUser(Long id);
 
-    List<User> getAllUser();
+    void validateUser(Long id);
+
+    CursorPage<User> getUsers(long cursor, long size);
+
+    void streamUsers(Consumer<User> consumer);
 }
@@ -3,42 +3,106 @@ package ru.practicum.shareit.user.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.cache.HibernateCacheEvictor;
+import ru.practicum.shareit.exception.DuplicateEmailException;
 import ru.practicum.shareit.exception.NotFoundDataException;
+import ru.practicum.shareit.item.search.ItemSearchCleaner;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.request.service.ItemRequestFeedService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.response.UserRepositoryJpa;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final UserRepositoryJpa userRepository;
+    private final UserCache userCache;
+    private final UserEmailFilter emailFilter;
+    private final ItemRequestFeedService feedService;
+    private final ItemSearchCleaner searchCleaner;
+    private final HibernateCacheEvictor cacheEvictor;
 
     @Override
     @Transactional
     public User saveUser(UserDto request) {
-        User user = userMapper.toUser(request);
-        return userRepository.save(user);
+        checkEmailIsFree(request.getEmail(), null);
+        User user = userRepository.save(userMapper.toUser(request));
+        emailFilter.put(user.getEmail());
+        return user;
+    }
+
+    @Override
+    @Transactional
+    public List<ImportResultDto> saveUsers(Map<Long, UserDto> requests) {
+        Set<String> probable = requests.values().stream()
+                .map(UserDto::getEmail)
+                .filter(emailFilter::mightContain)
+                .collect(Collectors.toSet());
+        Set<String> existing = probable.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findEmailByEmailIn(probable));
+        emailFilter.recordFalsePositives(probable.size() - existing.size());
+        Map<String, Long> rowByEmail = new HashMap<>();
+        List<ImportResultDto> results = new ArrayList<>();
+        Map<Long, User> users = new LinkedHashMap<>();
+        requests.forEach((row, request) -> {
+            Long firstRow = rowByEmail.putIfAbsent(request.getEmail(), row);
+            if (existing.contains(request.getEmail())) {
+                results.add(new ImportResultDto(row, null,
+                        "Пользователь с email = " + request.getEmail() + " уже существует"));
+            } else if (firstRow != null) {
+                results.add(new ImportResultDto(row, null,
+                        "Email " + request.getEmail() + " уже указан в строке " + firstRow));
+            } else {
+                users.put(row, userMapper.toUser(request));
+            }
+        });
+        userRepository.saveAll(users.values());
+        users.forEach((row, user) -> {
+            emailFilter.put(user.getEmail());
+            results.add(new ImportResultDto(row, user.getId(), null));
+        });
+        results.sort(Comparator.comparingLong(ImportResultDto::getRow));
+        return results;
     }
 
     @Override
     @Transactional
     public User updateUser(Long id, UserDto request) {
-        if (!userRepository.existsById(id)) {
-            throw new NotFoundDataException("Пользователя с id = " + id + " не найден");
-        }
+        User current = userRepository.findById(id).orElseThrow(
+                () -> new NotFoundDataException("Пользователя с id = " + id + " не найден"));
         User user = userMapper.toUser(request);
         user.setId(id);
         if (user.getEmail() == null) {
-            user.setEmail(userRepository.findById(id).get().getEmail());
+            user.setEmail(current.getEmail());
+        } else {
+            checkEmailIsFree(user.getEmail(), id);
         }
         if (user.getName() == null) {
-            user.setName(userRepository.findById(id).get().getName());
+            user.setName(current.getName());
         }
-        return userRepository.save(user);
+        userCache.invalidate(id);
+        User saved = userRepository.save(user);
+        emailFilter.put(saved.getEmail());
+        return saved;
     }
 
     @Override
@@ -47,19 +111,60 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new NotFoundDataException("Пользователя с id = " + id + " не найден");
         }
+        userCache.invalidate(id);
+        feedService.resetAnswersOfOwner(id);
+        searchCleaner.removeItemsOfOwner(id);
         userRepository.deleteById(id);
+        cacheEvictor.evictCascadedFromUser(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUser(Long id) {
-        if (!userRepository.existsById(id)) {
+        Optional<User> cached = userCache.get(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        User user = userRepository.findById(id).orElseThrow(
+                () -> new NotFoundDataException("Пользователя с id = " + id + " не найден"));
+        userCache.put(user);
+        return user;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateUser(Long id) {
+        if (!userCache.contains(id) && !userRepository.existsById(id)) {
             throw new NotFoundDataException("Пользователя с id = " + id + " не найден");
         }
-        return userRepository.findById(id).get();
     }
 
     @Override
-    public List<User> getAllUser() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<User> getUsers(long cursor, long size) {
+        List<User> users = userRepository.findUserAfter(cursor, OffsetPageRequest.of(0, size));
+        String next = users.size() < size ? null : String.valueOf(users.get(users.size() - 1).getId());
+        return new CursorPage<>(users, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamUsers(Consumer<User> consumer) {
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(consumer);
+        }
+    }
+
+    private void checkEmailIsFree(String email, Long userId) {
+        if (!emailFilter.mightContain(email)) {
+            return;
+        }
+        boolean exists = userId == null
+                ? userRepository.existsByEmail(email)
+                : userRepository.existsByEmailAndIdNot(email, userId);
+        if (exists) {
+            throw new DuplicateEmailException("Пользователь с email = " + email + " уже существует");
+        }
+        emailFilter.recordFalsePositives(1);
     }
 }
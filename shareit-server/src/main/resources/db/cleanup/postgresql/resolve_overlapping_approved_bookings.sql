@@ -0,0 +1,37 @@
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS bookings_overlap_audit (
+booking_id integer NOT NULL PRIMARY KEY,
+item_id integer NOT NULL,
+booker_id integer NOT NULL,
+conflicting_booking_id integer NOT NULL,
+start_date TIMESTAMP WITH TIME ZONE NOT NULL,
+end_date TIMESTAMP WITH TIME ZONE NOT NULL,
+previous_status integer NOT NULL,
+resolved_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+INSERT INTO bookings_overlap_audit (booking_id, item_id, booker_id, conflicting_booking_id, start_date, end_date,
+                                    previous_status)
+SELECT later.booking_id, later.item_id, later.booker_id, min(earlier.booking_id), later.start_date,
+       later.end_date, later.status
+FROM bookings AS later
+         JOIN bookings AS earlier
+              ON earlier.item_id = later.item_id
+                  AND earlier.status = 1
+                  AND earlier.booking_id < later.booking_id
+                  AND tstzrange(earlier.start_date, earlier.end_date) && tstzrange(later.start_date, later.end_date)
+WHERE later.status = 1
+GROUP BY later.booking_id
+ON CONFLICT (booking_id) DO NOTHING;
+
+DELETE FROM item_booking_summary
+WHERE last_booking_id IN (SELECT booking_id FROM bookings_overlap_audit)
+   OR next_booking_id IN (SELECT booking_id FROM bookings_overlap_audit);
+
+UPDATE bookings
+SET status = 2
+WHERE status = 1
+  AND booking_id IN (SELECT booking_id FROM bookings_overlap_audit);
+
+COMMIT;
@@ -1,5 +1,3 @@
-drop table if exists users, items, comments, bookings, items_request;
-
 CREATE TABLE users (
 user_id integer GENERATED BY DEFAULT AS IDENTITY NOT NULL PRIMARY KEY,
 name varchar(100) NOT NULL,
@@ -37,4 +35,4 @@ item_id    integer NOT NULL REFERENCES items (item_id) ON DELETE CASCADE,
 status     integer NOT NULL,
 start_date TIMESTAMP WITH TIME ZONE NOT NULL ,
 end_date TIMESTAMP WITH TIME ZONE NOT NULL
-);
\ No newline at end of file
+);
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS item_booking_summary (
+item_id integer NOT NULL PRIMARY KEY REFERENCES items (item_id) ON DELETE CASCADE,
+last_booking_id integer REFERENCES bookings (booking_id) ON DELETE CASCADE,
+next_booking_id integer REFERENCES bookings (booking_id) ON DELETE CASCADE
+);
@@ -0,0 +1,5 @@
+CREATE SEQUENCE IF NOT EXISTS users_seq;
+CREATE SEQUENCE IF NOT EXISTS items_request_seq;
+CREATE SEQUENCE IF NOT EXISTS items_seq;
+CREATE SEQUENCE IF NOT EXISTS comments_seq;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS item_request_feed (
+request_id integer NOT NULL PRIMARY KEY REFERENCES items_request (request_id) ON DELETE CASCADE,
+owner_id integer NOT NULL,
+description varchar(255) NOT NULL,
+created TIMESTAMP WITH TIME ZONE NOT NULL,
+items varchar
+);
+
+INSERT INTO item_request_feed (request_id, owner_id, description, created)
+SELECT request_id, owner_id, description, created FROM items_request;
+
+CREATE INDEX IF NOT EXISTS item_request_feed_owner_created_idx
+    ON item_request_feed (owner_id, created DESC, request_id DESC);
+CREATE INDEX IF NOT EXISTS item_request_feed_created_idx ON item_request_feed (created DESC, request_id DESC);
@@ -0,0 +1,9 @@
+CREATE SEQUENCE IF NOT EXISTS item_request_suggestion_seq;
+
+CREATE TABLE IF NOT EXISTS item_request_suggestion (
+suggestion_id integer NOT NULL PRIMARY KEY,
+request_id integer NOT NULL REFERENCES items_request (request_id) ON DELETE CASCADE,
+item_id integer NOT NULL REFERENCES items (item_id) ON DELETE CASCADE,
+score double precision NOT NULL,
+CONSTRAINT item_request_suggestion_request_item_uq UNIQUE (request_id, item_id)
+);
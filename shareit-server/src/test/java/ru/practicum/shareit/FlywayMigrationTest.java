@@ -0,0 +1,32 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FlywayMigrationTest {
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+
+    @Test
+    void migrationsAppliedAndRestartKeepsDataTest() {
+        assertEquals(flyway.info().all().length, flyway.info().applied().length);
+        assertEquals(0, flyway.info().pending().length);
+        flyway.validate();
+        User user = userRepositoryJpa.save(new User(null, "Пользователь 1", "user1@yandex.ru"));
+        assertEquals(0, flyway.migrate().migrationsExecuted);
+        assertTrue(userRepositoryJpa.findById(user.getId()).isPresent());
+        userRepositoryJpa.deleteById(user.getId());
+    }
+}
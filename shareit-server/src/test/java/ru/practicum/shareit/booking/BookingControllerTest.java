@@ -13,6 +13,8 @@ import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.ItemBookingResponseDto;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -22,8 +24,11 @@ import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -306,7 +311,7 @@ class BookingControllerTest {
         when(service.getBookingToUser(anyLong(), anyString(), anyLong(), anyLong()))
                 .thenAnswer(invocationOnMock -> {
                     List<BookingResponseDto> bookingsResponse;
-                    if (invocationOnMock.getArgument(3, Long.class) == Long.MAX_VALUE) {
+                    if (invocationOnMock.getArgument(3, Long.class) == 20L) {
                         bookingsResponse = List.of(bookingResponseDto1, bookingResponseDto2);
                     } else {
                         bookingsResponse = List.of(bookingResponseDto1);
@@ -414,7 +419,7 @@ class BookingControllerTest {
         when(service.getBookingToOwner(anyLong(), anyString(), anyLong(), anyLong()))
                 .thenAnswer(invocationOnMock -> {
                     List<BookingResponseDto> bookingsResponse;
-                    if (invocationOnMock.getArgument(3, Long.class) == Long.MAX_VALUE) {
+                    if (invocationOnMock.getArgument(3, Long.class) == 20L) {
                         bookingsResponse = List.of(bookingResponseDto1, bookingResponseDto2);
                     } else {
                         bookingsResponse = List.of(bookingResponseDto1);
@@ -498,4 +503,59 @@ class BookingControllerTest {
                         Long.class))
                 .andExpect(jsonPath("$.[0].status", is(bookingResponseDto1.getStatus().toString())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBookingsToBookerTestCursor() throws Exception {
+        BookingResponseDto bookingResponseDto1 = new BookingResponseDto();
+        bookingResponseDto1.setBooker(new BookerDto(1L));
+        bookingResponseDto1.setId(1L);
+        bookingResponseDto1.setItem(new ItemBookingResponseDto(1L,
+                "Предмет 1"));
+        bookingResponseDto1.setStart(LocalDateTime.now().plusDays(10)
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        bookingResponseDto1.setEnd(LocalDateTime.now().plusDays(20).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        bookingResponseDto1.setStatus(Status.APPROVED);
+        PageCursor next = new PageCursor(LocalDateTime.now().plusDays(10), 1L);
+        when(service.getBookingToUser(anyLong(), anyString(), any(PageCursor.class), anyLong()))
+                .thenReturn(new CursorPage<>(List.of(bookingResponseDto1), next.encode()));
+
+        mvc.perform(get("/bookings?cursor=&size=1")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, next.encode()))
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$.[0].id", is(bookingResponseDto1.getId()), Long.class));
+        verify(service).getBookingToUser(1L, "ALL", PageCursor.first(), 1L);
+    }
+
+    @Test
+    void getBookingsToOwnerTestCursorLastPage() throws Exception {
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), 5L);
+        when(service.getBookingToOwner(anyLong(), anyString(), any(PageCursor.class), anyLong()))
+                .thenReturn(new CursorPage<>(List.of(), null));
+
+        mvc.perform(get("/bookings/owner?cursor=" + cursor.encode())
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()", is(0)));
+        verify(service).getBookingToOwner(1L, "ALL", cursor, 20L);
+    }
+
+    @Test
+    void getBookingsToBookerTestInvalidCursor() throws Exception {
+        mvc.perform(get("/bookings?cursor=bm90LWEtY3Vyc29y")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        verify(service, never()).getBookingToUser(anyLong(), anyString(), any(PageCursor.class), anyLong());
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.booking.response;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingRepositoryJpaInsertBenchmarkTest {
+    private static final int BOOKINGS = 2000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private BookingRepositoryJpa repositoryJpa;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DirtiesContext
+    void bookingsAreInsertedInJdbcBatchesTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepositoryJpa.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        Item item = itemRepositoryJpa.save(new Item(null, "Предмет", "Описание", true, owner, null));
+        entityManager.flush();
+
+        measure("warm up", BATCH_SIZE, booker, item);
+        long unbatched = measure("row by row", 1, booker, item);
+        long batched = measure("batch of " + BATCH_SIZE, BATCH_SIZE, booker, item);
+
+        assertTrue(unbatched >= BOOKINGS);
+        assertTrue(batched <= 2 * (BOOKINGS / BATCH_SIZE + 1));
+        assertEquals(3L * BOOKINGS, repositoryJpa.count());
+    }
+
+    private long measure(String name, int batchSize, User booker, Item item) {
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        Statistics statistics = session.getSessionFactory().unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(new Booking(null, booker, item, Status.WAITING, start.plusMinutes(i),
+                    start.plusMinutes(i).plusSeconds(30)));
+        }
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        repositoryJpa.saveAll(bookings);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - startedAt;
+        session.setJdbcBatchSize(null);
+        entityManager.clear();
+        log.info("{}: {} bookings inserted with {} statements in {} ms ({} rows/s)", name, BOOKINGS,
+                statistics.getPrepareStatementCount(), elapsed / 1_000_000,
+                BOOKINGS * 1_000_000_000L / Math.max(elapsed, 1));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.booking.response;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BookingRepositoryJpaPageTest {
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private BookingRepositoryJpa repositoryJpa;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DirtiesContext
+    void rowsReadPerPageDoNotDependOnBookingHistoryTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepositoryJpa.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        Item item = itemRepositoryJpa.save(new Item(null, "Предмет", "Описание", true, owner, null));
+        OffsetPageRequest page = OffsetPageRequest.of(20, PAGE_SIZE);
+
+        for (int history : new int[]{100, 2000}) {
+            addHistory(booker, item, history);
+            assertEquals(PAGE_SIZE, rowsRead("owner", () -> repositoryJpa
+                    .findPastBookingByItem_Owner_Id(owner.getId(), LocalDateTime.now(), page)));
+            assertEquals(PAGE_SIZE, rowsRead("booker", () -> repositoryJpa
+                    .findBookingByBooker_IdOrderByStartDescIdDesc(booker.getId(), page)));
+            assertEquals(PAGE_SIZE, rowsRead("booker after cursor", () -> repositoryJpa.findBookingByBooker_IdAfter(
+                    booker.getId(), LocalDateTime.now().minusMonths(6), Long.MAX_VALUE, page.first())));
+        }
+    }
+
+    @Test
+    @DirtiesContext
+    void pageIsProjectedWithoutLoadingEntitiesTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepositoryJpa.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        addHistory(booker, itemRepositoryJpa.save(new Item(null, "Дрель", "Описание", true, owner, null)), 10);
+        addHistory(booker, itemRepositoryJpa.save(new Item(null, "Пила", "Описание", true, owner, null)), 10);
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<BookingResponseDto> bookings = repositoryJpa.findBookingByItem_Owner_IdOrderByStartDescIdDesc(
+                owner.getId(), OffsetPageRequest.of(5, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, bookings.size());
+        bookings.forEach(b -> {
+            assertNotNull(b.getItem().getName());
+            assertEquals(booker.getId(), b.getBooker().getId());
+        });
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private void addHistory(User booker, Item item, int count) {
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bookings.add(new Booking(null, booker, item, Status.APPROVED, start.plusMinutes(i),
+                    start.plusMinutes(i).plusSeconds(30)));
+        }
+        repositoryJpa.saveAll(bookings);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long rowsRead(String name, Supplier<List<BookingResponseDto>> page) {
+        Statistics statistics = statistics();
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(PAGE_SIZE, page.get().size());
+        assertEquals(1, statistics.getPrepareStatementCount(), name);
+        long rows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        log.info("{}: {} rows read for a page of {}", name, rows, PAGE_SIZE);
+        return rows;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -3,16 +3,20 @@ package ru.practicum.shareit.booking.response;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.response.UserRepositoryJpa;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -47,11 +51,11 @@ class BookingRepositoryJpaTest {
         Booking booking2 = new Booking(null, saveUser2, saveItem2, Status.APPROVED, created2, end2);
         Booking booking1Save = repositoryJpa.save(booking1);
         Booking booking2Save = repositoryJpa.save(booking2);
-        List<Booking> bookingActual = repositoryJpa.findBookingByBooker_IdAndStatus(saveUser2.getId(),
-                Status.APPROVED);
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByBooker_IdAndStatus(saveUser2.getId(),
+                Status.APPROVED, Pageable.unpaged());
         assertEquals(2, bookingActual.size());
-        assertTrue(bookingActual.contains(booking1Save));
-        assertTrue(bookingActual.contains(booking2Save));
+        assertTrue(ids(bookingActual).contains(booking1Save.getId()));
+        assertTrue(ids(bookingActual).contains(booking2Save.getId()));
     }
 
     @Test
@@ -75,10 +79,10 @@ class BookingRepositoryJpaTest {
         Booking booking2 = new Booking(null, saveUser2, saveItem2, Status.APPROVED, created2, end2);
         Booking booking1Save = repositoryJpa.save(booking1);
         Booking booking2Save = repositoryJpa.save(booking2);
-        List<Booking> bookingActual = repositoryJpa.findBookingByBooker_IdAndStatus(saveUser2.getId(),
-                Status.APPROVED);
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByBooker_IdAndStatus(saveUser2.getId(),
+                Status.APPROVED, Pageable.unpaged());
         assertEquals(1, bookingActual.size());
-        assertTrue(bookingActual.contains(booking2Save));
+        assertTrue(ids(bookingActual).contains(booking2Save.getId()));
     }
 
     @Test
@@ -106,11 +110,12 @@ class BookingRepositoryJpaTest {
         Booking booking1Save = repositoryJpa.save(booking1);
         Booking booking2Save = repositoryJpa.save(booking2);
         Booking booking3Save = repositoryJpa.save(booking3);
-        List<Booking> bookingActual = repositoryJpa.findBookingByBooker_IdOrderByStartDesc(saveUser2.getId());
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByBooker_IdOrderByStartDescIdDesc(
+                saveUser2.getId(), Pageable.unpaged());
         assertEquals(3, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking1Save);
-        assertEquals(bookingActual.get(1), booking3Save);
-        assertEquals(bookingActual.get(2), booking2Save);
+        assertEquals(booking1Save.getId(), bookingActual.get(0).getId());
+        assertEquals(booking3Save.getId(), bookingActual.get(1).getId());
+        assertEquals(booking2Save.getId(), bookingActual.get(2).getId());
     }
 
     @Test
@@ -138,11 +143,12 @@ class BookingRepositoryJpaTest {
         Booking booking1Save = repositoryJpa.save(booking1);
         Booking booking2Save = repositoryJpa.save(booking2);
         Booking booking3Save = repositoryJpa.save(booking3);
-        List<Booking> bookingActual = repositoryJpa.findBookingByBooker_IdOrderByStartDesc(saveUser2.getId());
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByBooker_IdOrderByStartDescIdDesc(
+                saveUser2.getId(), Pageable.unpaged());
         assertEquals(3, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking1Save);
-        assertEquals(bookingActual.get(1), booking3Save);
-        assertEquals(bookingActual.get(2), booking2Save);
+        assertEquals(booking1Save.getId(), bookingActual.get(0).getId());
+        assertEquals(booking3Save.getId(), bookingActual.get(1).getId());
+        assertEquals(booking2Save.getId(), bookingActual.get(2).getId());
     }
 
     @Test
@@ -179,11 +185,11 @@ class BookingRepositoryJpaTest {
         Booking booking2Save = repositoryJpa.save(booking2);
         Booking booking3Save = repositoryJpa.save(booking3);
         Booking booking4Save = repositoryJpa.save(booking4);
-        List<Booking> bookingActual = repositoryJpa.findBookingByItem_Owner_IdAndStatus(saveItem1.getId(),
-                Status.APPROVED);
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByItem_Owner_IdAndStatus(saveItem1.getId(),
+                Status.APPROVED, Pageable.unpaged());
         assertEquals(2, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking1Save);
-        assertEquals(bookingActual.get(1), booking3Save);
+        assertEquals(booking1Save.getId(), bookingActual.get(0).getId());
+        assertEquals(booking3Save.getId(), bookingActual.get(1).getId());
     }
 
     @Test
@@ -227,17 +233,18 @@ class BookingRepositoryJpaTest {
         Booking booking3Save = repositoryJpa.save(booking3);
         Booking booking4Save = repositoryJpa.save(booking4);
         Booking booking5Save = repositoryJpa.save(booking5);
-        List<Booking> bookingActual = repositoryJpa.findBookingByItem_Owner_IdOrderByStartDesc(
-                saveItem1.getOwner().getId());
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByItem_Owner_IdOrderByStartDescIdDesc(
+                saveItem1.getOwner().getId(), Pageable.unpaged());
         assertEquals(4, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking1Save);
-        assertEquals(bookingActual.get(1), booking5Save);
-        assertEquals(bookingActual.get(2), booking3Save);
-        assertEquals(bookingActual.get(3), booking2Save);
+        assertEquals(booking1Save.getId(), bookingActual.get(0).getId());
+        assertEquals(booking5Save.getId(), bookingActual.get(1).getId());
+        assertEquals(booking3Save.getId(), bookingActual.get(2).getId());
+        assertEquals(booking2Save.getId(), bookingActual.get(3).getId());
     }
 
     @Test
-    void findBookingByItemAndStartAfterTest() {
+    @DirtiesContext
+    void findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatusTest() {
         User user1 = new User(null, "Пользователь 1", "user1@yandex.ru");
         User user2 = new User(null, "Пользователь 2", "user2@yandex.ru");
         User user3 = new User(null, "Пользователь 3", "user3@yandex.ru");
@@ -247,14 +254,14 @@ class BookingRepositoryJpaTest {
         Item item1 = new Item(null, "Предмет 1", "Описание 1", true, saveUser1,
                 null);
         Item saveItem1 = itemRepositoryJpa.save(item1);
-        LocalDateTime created1 = LocalDateTime.now().plusDays(100);
+        LocalDateTime created1 = LocalDateTime.now().minusDays(100);
         LocalDateTime end1 = created1.plusDays(30);
-        LocalDateTime created2 = LocalDateTime.now().plusDays(10);
+        LocalDateTime created2 = LocalDateTime.now().minusDays(10);
         LocalDateTime end2 = created2.plusDays(50);
         LocalDateTime created3 = LocalDateTime.now().plusDays(50);
-        LocalDateTime end3 = created2.plusDays(50);
-        LocalDateTime created4 = LocalDateTime.now().plusDays(2);
-        LocalDateTime end4 = created2.plusDays(2);
+        LocalDateTime end3 = created2.plusDays(49);
+        LocalDateTime created4 = LocalDateTime.now().minusDays(2);
+        LocalDateTime end4 = created2.plusDays(1);
         LocalDateTime created5 = LocalDateTime.now().minusDays(1);
         LocalDateTime end5 = created2.plusDays(6);
         Booking booking1 = new Booking(null, saveUser2, saveItem1, Status.APPROVED, created1, end1);
@@ -267,90 +274,103 @@ class BookingRepositoryJpaTest {
         Booking booking3Save = repositoryJpa.save(booking3);
         Booking booking4Save = repositoryJpa.save(booking4);
         Booking booking5Save = repositoryJpa.save(booking5);
-        List<Booking> bookingActual = repositoryJpa.findBookingByItemAndStartAfter(saveItem1.getId(),
-                Status.APPROVED);
+        List<Booking> bookingActual = repositoryJpa.findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatus(1L,
+                2L, LocalDateTime.now(), Status.APPROVED);
         assertEquals(5, repositoryJpa.findAll().size());
-        assertEquals(3, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking2Save);
-        assertEquals(bookingActual.get(1), booking3Save);
-        assertEquals(bookingActual.get(2), booking1Save);
+        assertEquals(1, bookingActual.size());
+        assertEquals(booking1Save.getId(), bookingActual.get(0).getId());
     }
 
     @Test
     @DirtiesContext
-    void findBookingByItemAndStartBeforeTest() {
+    void findCurrentPastFutureBookingByBooker_IdTest() {
         User user1 = new User(null, "Пользователь 1", "user1@yandex.ru");
         User user2 = new User(null, "Пользователь 2", "user2@yandex.ru");
-        User user3 = new User(null, "Пользователь 3", "user3@yandex.ru");
         User saveUser1 = userRepositoryJpa.save(user1);
         User saveUser2 = userRepositoryJpa.save(user2);
-        User saveUser3 = userRepositoryJpa.save(user3);
         Item item1 = new Item(null, "Предмет 1", "Описание 1", true, saveUser1,
                 null);
         Item saveItem1 = itemRepositoryJpa.save(item1);
-        LocalDateTime created1 = LocalDateTime.now().plusDays(100);
-        LocalDateTime end1 = created1.plusDays(30);
-        LocalDateTime created2 = LocalDateTime.now().plusDays(10);
-        LocalDateTime end2 = created2.plusDays(50);
-        LocalDateTime created3 = LocalDateTime.now().plusDays(50);
-        LocalDateTime end3 = created2.plusDays(50);
-        LocalDateTime created4 = LocalDateTime.now().plusDays(2);
-        LocalDateTime end4 = created2.plusDays(2);
-        LocalDateTime created5 = LocalDateTime.now().minusDays(1);
-        LocalDateTime end5 = created2.plusDays(6);
-        Booking booking1 = new Booking(null, saveUser2, saveItem1, Status.APPROVED, created1, end1);
-        Booking booking2 = new Booking(null, saveUser2, saveItem1, Status.APPROVED, created2, end2);
-        Booking booking3 = new Booking(null, saveUser3, saveItem1, Status.APPROVED, created3, end3);
-        Booking booking4 = new Booking(null, saveUser2, saveItem1, Status.REJECTED, created4, end4);
-        Booking booking5 = new Booking(null, saveUser3, saveItem1, Status.APPROVED, created5, end5);
-        Booking booking1Save = repositoryJpa.save(booking1);
-        Booking booking2Save = repositoryJpa.save(booking2);
-        Booking booking3Save = repositoryJpa.save(booking3);
-        Booking booking4Save = repositoryJpa.save(booking4);
-        Booking booking5Save = repositoryJpa.save(booking5);
-        List<Booking> bookingActual = repositoryJpa.findBookingByItemAndStartBefore(saveItem1.getId(),
-                Status.APPROVED);
-        assertEquals(5, repositoryJpa.findAll().size());
-        assertEquals(1, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking5Save);
+        LocalDateTime now = LocalDateTime.now();
+        Booking past = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.minusDays(10), now.minusDays(5)));
+        Booking current = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.minusDays(1), now.plusDays(1)));
+        Booking future = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.WAITING,
+                now.plusDays(5), now.plusDays(10)));
+        List<BookingResponseDto> currentActual = repositoryJpa.findCurrentBookingByBooker_Id(saveUser2.getId(), now,
+                Pageable.unpaged());
+        List<BookingResponseDto> pastActual = repositoryJpa.findPastBookingByBooker_Id(saveUser2.getId(), now,
+                Pageable.unpaged());
+        List<BookingResponseDto> futureActual = repositoryJpa.findFutureBookingByBooker_Id(saveUser2.getId(), now,
+                Pageable.unpaged());
+        assertEquals(List.of(current.getId()), ids(currentActual));
+        assertEquals(List.of(past.getId()), ids(pastActual));
+        assertEquals(List.of(future.getId()), ids(futureActual));
     }
 
     @Test
     @DirtiesContext
-    void findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatusTest() {
+    void findBookingByItem_Owner_IdOrderByStartDescOffsetPageTest() {
         User user1 = new User(null, "Пользователь 1", "user1@yandex.ru");
         User user2 = new User(null, "Пользователь 2", "user2@yandex.ru");
-        User user3 = new User(null, "Пользователь 3", "user3@yandex.ru");
         User saveUser1 = userRepositoryJpa.save(user1);
         User saveUser2 = userRepositoryJpa.save(user2);
-        User saveUser3 = userRepositoryJpa.save(user3);
         Item item1 = new Item(null, "Предмет 1", "Описание 1", true, saveUser1,
                 null);
         Item saveItem1 = itemRepositoryJpa.save(item1);
-        LocalDateTime created1 = LocalDateTime.now().minusDays(100);
-        LocalDateTime end1 = created1.plusDays(30);
-        LocalDateTime created2 = LocalDateTime.now().minusDays(10);
-        LocalDateTime end2 = created2.plusDays(50);
-        LocalDateTime created3 = LocalDateTime.now().plusDays(50);
-        LocalDateTime end3 = created2.plusDays(49);
-        LocalDateTime created4 = LocalDateTime.now().minusDays(2);
-        LocalDateTime end4 = created2.plusDays(1);
-        LocalDateTime created5 = LocalDateTime.now().minusDays(1);
-        LocalDateTime end5 = created2.plusDays(6);
-        Booking booking1 = new Booking(null, saveUser2, saveItem1, Status.APPROVED, created1, end1);
-        Booking booking2 = new Booking(null, saveUser2, saveItem1, Status.APPROVED, created2, end2);
-        Booking booking3 = new Booking(null, saveUser3, saveItem1, Status.APPROVED, created3, end3);
-        Booking booking4 = new Booking(null, saveUser2, saveItem1, Status.REJECTED, created4, end4);
-        Booking booking5 = new Booking(null, saveUser3, saveItem1, Status.APPROVED, created5, end5);
-        Booking booking1Save = repositoryJpa.save(booking1);
-        Booking booking2Save = repositoryJpa.save(booking2);
-        Booking booking3Save = repositoryJpa.save(booking3);
-        Booking booking4Save = repositoryJpa.save(booking4);
-        Booking booking5Save = repositoryJpa.save(booking5);
-        List<Booking> bookingActual = repositoryJpa.findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatus(1L,
-                2L, LocalDateTime.now(), Status.APPROVED);
-        assertEquals(5, repositoryJpa.findAll().size());
-        assertEquals(1, bookingActual.size());
-        assertEquals(bookingActual.get(0), booking1Save);
+        LocalDateTime now = LocalDateTime.now();
+        Booking booking1 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(1), now.plusDays(2)));
+        Booking booking2 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(3), now.plusDays(4)));
+        Booking booking3 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(5), now.plusDays(6)));
+        Booking booking4 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(7), now.plusDays(8)));
+        List<BookingResponseDto> bookingActual = repositoryJpa.findBookingByItem_Owner_IdOrderByStartDescIdDesc(
+                saveUser1.getId(), OffsetPageRequest.of(1, 2));
+        assertEquals(List.of(booking3.getId(), booking2.getId()), ids(bookingActual));
+        assertFalse(ids(bookingActual).contains(booking4.getId()));
+        assertFalse(ids(bookingActual).contains(booking1.getId()));
+    }
+
+    @Test
+    @DirtiesContext
+    void findLastAndNextBookingByItem_IdInTest() {
+        User saveUser1 = userRepositoryJpa.save(new User(null, "Пользователь 1", "user1@yandex.ru"));
+        User saveUser2 = userRepositoryJpa.save(new User(null, "Пользователь 2", "user2@yandex.ru"));
+        Item saveItem1 = itemRepositoryJpa.save(new Item(null, "Предмет 1", "Описание 1", true, saveUser1,
+                null));
+        Item saveItem2 = itemRepositoryJpa.save(new Item(null, "Предмет 2", "Описание 2", true, saveUser1,
+                null));
+        Item saveItem3 = itemRepositoryJpa.save(new Item(null, "Предмет 3", "Описание 3", true, saveUser1,
+                null));
+        LocalDateTime now = LocalDateTime.now();
+        Booking last1 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.minusDays(2), now.minusDays(1)));
+        repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.minusDays(10), now.minusDays(9)));
+        repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.REJECTED,
+                now.minusHours(2), now.minusHours(1)));
+        Booking next1 = repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(1), now.plusDays(2)));
+        repositoryJpa.save(new Booking(null, saveUser2, saveItem1, Status.APPROVED,
+                now.plusDays(5), now.plusDays(6)));
+        Booking next2 = repositoryJpa.save(new Booking(null, saveUser2, saveItem2, Status.APPROVED,
+                now.plusDays(3), now.plusDays(4)));
+        repositoryJpa.save(new Booking(null, saveUser2, saveItem3, Status.WAITING,
+                now.minusDays(3), now.minusDays(2)));
+        List<Long> itemIds = List.of(saveItem1.getId(), saveItem2.getId(), saveItem3.getId());
+        List<Booking> lastActual = repositoryJpa.findLastBookingByItem_IdIn(itemIds, Status.APPROVED, now);
+        List<Booking> nextActual = repositoryJpa.findNextBookingByItem_IdIn(itemIds, Status.APPROVED, now);
+        assertEquals(List.of(last1), lastActual);
+        assertEquals(List.of(next1, next2), nextActual);
+    }
+
+    private static List<Long> ids(List<BookingResponseDto> bookings) {
+        return bookings.stream()
+                .map(BookingResponseDto::getId)
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
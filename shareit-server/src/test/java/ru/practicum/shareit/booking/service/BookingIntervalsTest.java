@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingIntervalsTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Test
+    void overlapsTestHalfOpenIntervals() {
+        BookingIntervals intervals = BookingIntervals.of(List.of(booking(10, 20), booking(0, 5), booking(30, 40)));
+        assertEquals(3, intervals.size());
+        assertTrue(intervals.overlaps(at(4), at(6)));
+        assertTrue(intervals.overlaps(at(12), at(13)));
+        assertTrue(intervals.overlaps(at(-5), at(50)));
+        assertFalse(intervals.overlaps(at(5), at(10)));
+        assertFalse(intervals.overlaps(at(20), at(30)));
+        assertFalse(intervals.overlaps(at(40), at(45)));
+        assertFalse(intervals.overlaps(at(-5), at(0)));
+    }
+
+    @Test
+    void overlapsTestLongIntervalCoversLaterStarts() {
+        BookingIntervals intervals = BookingIntervals.of(List.of(booking(0, 100), booking(10, 11), booking(20, 21)));
+        assertTrue(intervals.overlaps(at(50), at(60)));
+        assertFalse(intervals.overlaps(at(100), at(110)));
+    }
+
+    @Test
+    void withTestKeepsOriginalAndInsertsInOrder() {
+        BookingIntervals empty = BookingIntervals.of(List.of());
+        assertFalse(empty.overlaps(at(0), at(100)));
+        BookingIntervals intervals = empty.with(at(30), at(40)).with(at(0), at(5)).with(at(10), at(20));
+        assertEquals(0, empty.size());
+        assertEquals(3, intervals.size());
+        assertTrue(intervals.overlaps(at(35), at(36)));
+        assertTrue(intervals.overlaps(at(3), at(4)));
+        assertTrue(intervals.overlaps(at(15), at(16)));
+        assertFalse(intervals.overlaps(at(20), at(30)));
+    }
+
+    private static Booking booking(int startHours, int endHours) {
+        return new Booking(null, null, null, Status.APPROVED, at(startHours), at(endHours));
+    }
+
+    private static LocalDateTime at(int hours) {
+        return BASE.plusHours(hours);
+    }
+}
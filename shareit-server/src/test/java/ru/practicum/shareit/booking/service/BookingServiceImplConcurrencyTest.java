@@ -0,0 +1,119 @@
+package ru.practicum.shareit.booking.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingResearchDto;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.exception.BookingOverlapException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:shareit-booking-concurrency;LOCK_TIMEOUT=10000"})
+class BookingServiceImplConcurrencyTest {
+    private static final int BOOKINGS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private BookingRepositoryJpa bookingRepository;
+
+    @Test
+    @DirtiesContext
+    void approvedOrRejectBookingTestParallelOverlappingApprovalsOnlyOneWins() throws Exception {
+        User owner = userService.saveUser(new UserDto("Владелец", "owner@yandex.ru"));
+        long itemId = itemService.saveItem(new ItemDto(null, "Дрель", "Аккумуляторная дрель", true,
+                null, null, new ArrayList<>(), null), owner.getId()).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            User booker = userService.saveUser(new UserDto("Арендатор " + i, "booker" + i + "@yandex.ru"));
+            bookingIds.add(bookingService.saveBooking(new BookingResearchDto(start.plusHours(i + 24),
+                    start.plusHours(i), itemId), booker.getId()).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(BOOKINGS);
+        CountDownLatch ready = new CountDownLatch(BOOKINGS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Status>> results = new ArrayList<>();
+        try {
+            for (long bookingId : bookingIds) {
+                Callable<Status> approve = () -> {
+                    ready.countDown();
+                    go.await();
+                    return bookingService.approvedOrRejectBooking(owner.getId(), bookingId, true).getStatus();
+                };
+                results.add(executor.submit(approve));
+            }
+            assertTrue(ready.await(10, TimeUnit.SECONDS));
+            go.countDown();
+            int approved = 0;
+            int conflicts = 0;
+            for (Future<Status> result : results) {
+                try {
+                    assertEquals(Status.APPROVED, result.get(30, TimeUnit.SECONDS));
+                    approved++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(BookingOverlapException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+            assertEquals(1, approved);
+            assertEquals(BOOKINGS - 1, conflicts);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, bookingIds.stream()
+                .filter(id -> bookingRepository.findById(id).orElseThrow().getStatus() == Status.APPROVED)
+                .count());
+    }
+
+    @Test
+    @DirtiesContext
+    void saveBookingTestRejectsOverlapWithApprovedBooking() {
+        User owner = userService.saveUser(new UserDto("Владелец", "owner@yandex.ru"));
+        User booker = userService.saveUser(new UserDto("Арендатор", "booker@yandex.ru"));
+        long itemId = itemService.saveItem(new ItemDto(null, "Дрель", "Аккумуляторная дрель", true,
+                null, null, new ArrayList<>(), null), owner.getId()).getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime end = start.plusDays(2);
+        BookingResearchDto overlapping = new BookingResearchDto(end.plusDays(1), start.plusDays(1), itemId);
+        bookingService.saveBooking(overlapping, booker.getId());
+        long bookingId = bookingService.saveBooking(new BookingResearchDto(end, start, itemId), booker.getId())
+                .getId();
+        bookingService.approvedOrRejectBooking(owner.getId(), bookingId, true);
+
+        BookingOverlapException ex = assertThrows(
+                BookingOverlapException.class,
+                () -> bookingService.saveBooking(overlapping, booker.getId()));
+        assertEquals("Вещь с id = " + itemId + " уже забронирована на эти даты", ex.getMessage());
+        assertEquals(Status.WAITING, bookingService.saveBooking(new BookingResearchDto(end.plusDays(1), end,
+                itemId), booker.getId()).getStatus());
+        assertEquals(Status.WAITING, bookingService.saveBooking(new BookingResearchDto(start, start.minusDays(1),
+                itemId), booker.getId()).getStatus());
+    }
+}
@@ -12,6 +12,8 @@ import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.exception.UserNotAccessException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -254,4 +257,34 @@ class BookingServiceImplIntegrationTest {
                 "CURRENT", 0, Long.MAX_VALUE);
         assertEquals(2,bookingResponseDtos.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void getBookingToOwnerCursorWalkTest() {
+        User user1 = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        User user2 = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru"));
+        ItemDto itemDto1 = new ItemDto(null, "Предмет 1", "Описание 1", true,
+                null, null, new ArrayList<>(), null);
+        itemService.saveItem(itemDto1, user2.getId());
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 5; i++) {
+            bookingService.saveBooking(new BookingResearchDto(start.plusDays(i).plusHours(1), start.plusDays(i),
+                    1L), user1.getId());
+        }
+        bookingService.saveBooking(new BookingResearchDto(start.plusDays(2).plusHours(1), start.plusDays(2),
+                1L), user1.getId());
+        List<Long> expected = bookingService.getBookingToOwner(user2.getId(), "ALL", 0, 100).stream()
+                .map(BookingResponseDto::getId)
+                .collect(Collectors.toList());
+        List<Long> actual = new ArrayList<>();
+        PageCursor cursor = PageCursor.first();
+        CursorPage<BookingResponseDto> page;
+        do {
+            page = bookingService.getBookingToOwner(user2.getId(), "ALL", cursor, 2);
+            page.getContent().forEach(b -> actual.add(b.getId()));
+            cursor = page.getNextCursor() == null ? null : PageCursor.decode(page.getNextCursor());
+        } while (cursor != null);
+        assertEquals(6, actual.size());
+        assertEquals(expected, actual);
+    }
+}
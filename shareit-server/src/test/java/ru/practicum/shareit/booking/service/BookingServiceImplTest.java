@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.dto.BookerDto;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
@@ -15,6 +16,7 @@ import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemBookingSummaryService;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
@@ -39,11 +41,15 @@ class BookingServiceImplTest {
     UserService userService;
     @Mock
     ItemService itemService;
+    @Mock
+    ItemBookingSummaryService summaryService;
+    @Mock
+    BookingIntervalIndex intervalIndex;
 
     @BeforeEach
     void setUp() {
         bookingService = new BookingServiceImpl(bookingRepositoryJpa, userService,
-                itemService, new BookingMapperImpl());
+                itemService, new BookingMapperImpl(), summaryService, intervalIndex);
     }
 
     @Test
@@ -151,6 +157,26 @@ class BookingServiceImplTest {
         verify(bookingRepositoryJpa, never()).save(any(Booking.class));
     }
 
+    @Test
+    void saveBookingTestBookingOverlapException() {
+        long userId = 1L;
+        long itemId = 1L;
+        BookingResearchDto bookingResearchDto = new BookingResearchDto(LocalDateTime.now().plusDays(10),
+                LocalDateTime.now().plusDays(1), itemId);
+        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
+        User user2 = new User(2L, "Пользователь 2", "user2@yandex.ru");
+        Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user2, null);
+        when(userService.getUser(anyLong())).thenReturn(user1);
+        when(itemService.getItemToBooking(itemId)).thenReturn(item1);
+        when(intervalIndex.overlapsApproved(itemId, bookingResearchDto.getStart(), bookingResearchDto.getEnd()))
+                .thenReturn(true);
+        BookingOverlapException ex = assertThrows(
+                BookingOverlapException.class,
+                () -> bookingService.saveBooking(bookingResearchDto, userId));
+        assertEquals("Вещь с id = " + itemId + " уже забронирована на эти даты", ex.getMessage());
+        verify(bookingRepositoryJpa, never()).save(any(Booking.class));
+    }
+
     @Test
     void saveBookingTest() {
         long userId = 1L;
@@ -188,8 +214,8 @@ class BookingServiceImplTest {
         long userId = 1L;
         long bookingId = 1L;
         boolean status = true;
-        when(userService.getUser(anyLong())).thenThrow(new NotFoundDataException(
-                "Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException(
+                "Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> bookingService.approvedOrRejectBooking(userId, bookingId, status));
@@ -203,7 +229,6 @@ class BookingServiceImplTest {
         long bookingId = 1L;
         boolean status = true;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.empty());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
@@ -222,7 +247,6 @@ class BookingServiceImplTest {
         Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user2, null);
         Booking booking = new Booking(1L, user1, item1, Status.WAITING, LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(10));
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         UserNotAccessException ex = assertThrows(
                 UserNotAccessException.class,
@@ -242,7 +266,6 @@ class BookingServiceImplTest {
         Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user2, null);
         Booking booking = new Booking(1L, user1, item1, Status.REJECTED, LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(10));
-        when(userService.getUser(anyLong())).thenReturn(user2);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         NotAccessChangeStatus ex = assertThrows(
                 NotAccessChangeStatus.class,
@@ -265,8 +288,8 @@ class BookingServiceImplTest {
                 LocalDateTime.now().plusDays(10));
         Booking bookingApproved = new Booking(1L, user1, item1, Status.APPROVED, booking.getStart(),
                 booking.getEnd());
-        when(userService.getUser(anyLong())).thenReturn(user2);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
+        when(itemService.lockItem(item1.getId())).thenReturn(item1);
         when(bookingRepositoryJpa.save(any(Booking.class))).thenReturn(bookingApproved);
         BookingResponseDto bookingExpected = new BookingResponseDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(booking.getEnd()),
@@ -283,6 +306,31 @@ class BookingServiceImplTest {
         assertEquals(bookingExpected.getBooker().getId(), bookingActual.getBooker().getId());
         assertEquals(bookingExpected.getStatus(), bookingActual.getStatus());
         verify(bookingRepositoryJpa, atLeast(1)).save(any(Booking.class));
+        verify(summaryService, times(1)).updateSummary(bookingApproved);
+        verify(intervalIndex, times(1)).add(bookingApproved);
+    }
+
+    @Test
+    void approvedOrRejectBookingTestThrowsBookingOverlapException() {
+        long userId = 2L;
+        long bookingId = 1L;
+        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
+        User user2 = new User(2L, "Пользователь 2", "user2@yandex.ru");
+        Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user2, null);
+        Booking booking = new Booking(1L, user1, item1, Status.WAITING, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(10));
+        when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
+        when(itemService.lockItem(item1.getId())).thenReturn(item1);
+        when(bookingRepositoryJpa.countOverlappingBookings(item1.getId(), booking.getStart(), booking.getEnd(),
+                Status.APPROVED)).thenReturn(1L);
+        BookingOverlapException ex = assertThrows(
+                BookingOverlapException.class,
+                () -> bookingService.approvedOrRejectBooking(userId, bookingId, true));
+        assertEquals("Вещь с id = " + item1.getId() + " уже забронирована на даты бронирования с id = "
+                + bookingId, ex.getMessage());
+        assertEquals(Status.WAITING, booking.getStatus());
+        verify(bookingRepositoryJpa, never()).save(any(Booking.class));
+        verify(intervalIndex, never()).add(any(Booking.class));
     }
 
     @Test
@@ -299,7 +347,6 @@ class BookingServiceImplTest {
                 LocalDateTime.now().plusDays(10));
         Booking bookingRejected = new Booking(1L, user1, item1, Status.REJECTED, booking.getStart(),
                 booking.getEnd());
-        when(userService.getUser(anyLong())).thenReturn(user2);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         when(bookingRepositoryJpa.save(any(Booking.class))).thenReturn(bookingRejected);
         BookingResponseDto bookingExpected = new BookingResponseDto(1L,
@@ -317,6 +364,7 @@ class BookingServiceImplTest {
         assertEquals(bookingExpected.getBooker().getId(), bookingActual.getBooker().getId());
         assertEquals(bookingExpected.getStatus(), bookingActual.getStatus());
         verify(bookingRepositoryJpa, atLeast(1)).save(any(Booking.class));
+        verify(itemService, never()).lockItem(anyLong());
     }
 
     @Test
@@ -324,8 +372,8 @@ class BookingServiceImplTest {
         long userId = 1L;
         long bookingId = 1L;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenThrow(new NotFoundDataException(
-                "Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException(
+                "Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> bookingService.getBooking(userId, bookingId));
@@ -337,7 +385,6 @@ class BookingServiceImplTest {
         long userId = 1L;
         long bookingId = 1L;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.empty());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
@@ -355,7 +402,6 @@ class BookingServiceImplTest {
         Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user2, null);
         Booking booking = new Booking(1L, user1, item1, Status.APPROVED, LocalDateTime.now().plusDays(1),
                 LocalDateTime.now().plusDays(10));
-        when(userService.getUser(anyLong())).thenReturn(user3);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         UserNotAccessException ex = assertThrows(
                 UserNotAccessException.class,
@@ -376,7 +422,6 @@ class BookingServiceImplTest {
                 LocalDateTime.now().plusDays(10));
         ItemBookingResponseDto itemBookingResponseDto = new ItemBookingResponseDto(1L, "Предмет 1");
         BookerDto bookerDto = new BookerDto(user1.getId());
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         BookingResponseDto bookingExpected = new BookingResponseDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(booking.getEnd()),
@@ -405,7 +450,6 @@ class BookingServiceImplTest {
                 LocalDateTime.now().plusDays(10));
         ItemBookingResponseDto itemBookingResponseDto = new ItemBookingResponseDto(1L, "Предмет 1");
         BookerDto bookerDto = new BookerDto(user1.getId());
-        when(userService.getUser(anyLong())).thenReturn(user2);
         when(bookingRepositoryJpa.findById(anyLong())).thenReturn(Optional.of(booking));
         BookingResponseDto bookingExpected = new BookingResponseDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(booking.getEnd()),
@@ -430,8 +474,8 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenThrow(new NotFoundDataException(
-                "Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException(
+                "Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> bookingService.getBookingToUser(userId, state, from, size));
@@ -445,7 +489,6 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         NotFoundStateException ex = assertThrows(
                 NotFoundStateException.class,
                 () -> bookingService.getBookingToUser(userId, state, from, size));
@@ -459,11 +502,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findBookingByBooker_IdOrderByStartDescIdDesc(anyLong(), any(Pageable.class)))
+                .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdOrderByStartDesc(anyLong());
+                .findBookingByBooker_IdOrderByStartDescIdDesc(anyLong(), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -474,11 +517,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findCurrentBookingByBooker_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdOrderByStartDesc(anyLong());
+                .findCurrentBookingByBooker_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -489,11 +532,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findPastBookingByBooker_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdOrderByStartDesc(anyLong());
+                .findPastBookingByBooker_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -504,11 +547,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findFutureBookingByBooker_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdOrderByStartDesc(anyLong());
+                .findFutureBookingByBooker_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -519,12 +562,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdAndStatus(anyLong(), any(Status.class)))
+        when(bookingRepositoryJpa.findBookingByBooker_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class)))
                 .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdAndStatus(anyLong(), any(Status.class));
+                .findBookingByBooker_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -535,12 +577,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByBooker_IdAndStatus(anyLong(), any(Status.class)))
+        when(bookingRepositoryJpa.findBookingByBooker_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class)))
                 .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToUser(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByBooker_IdAndStatus(anyLong(), any(Status.class));
+                .findBookingByBooker_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -551,8 +592,8 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenThrow(new NotFoundDataException(
-                "Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException(
+                "Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> bookingService.getBookingToOwner(userId, state, from, size));
@@ -566,7 +607,6 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         NotFoundStateException ex = assertThrows(
                 NotFoundStateException.class,
                 () -> bookingService.getBookingToOwner(userId, state, from, size));
@@ -580,11 +620,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findBookingByItem_Owner_IdOrderByStartDescIdDesc(anyLong(), any(Pageable.class)))
+                .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdOrderByStartDesc(anyLong());
+                .findBookingByItem_Owner_IdOrderByStartDescIdDesc(anyLong(), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -595,11 +635,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findCurrentBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdOrderByStartDesc(anyLong());
+                .findCurrentBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -610,11 +650,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findPastBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdOrderByStartDesc(anyLong());
+                .findPastBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -625,11 +665,11 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdOrderByStartDesc(anyLong())).thenReturn(new ArrayList<>());
+        when(bookingRepositoryJpa.findFutureBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class),
+                any(Pageable.class))).thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdOrderByStartDesc(anyLong());
+                .findFutureBookingByItem_Owner_Id(anyLong(), any(LocalDateTime.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -640,12 +680,12 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class)))
+        when(bookingRepositoryJpa.findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class),
+                any(Pageable.class)))
                 .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class));
+                .findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 
@@ -656,12 +696,12 @@ class BookingServiceImplTest {
         long from = 0;
         long size = 20;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
-        when(bookingRepositoryJpa.findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class)))
+        when(bookingRepositoryJpa.findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class),
+                any(Pageable.class)))
                 .thenReturn(new ArrayList<>());
         List<BookingResponseDto> bookingsResponse = bookingService.getBookingToOwner(userId, state, from, size);
         verify(bookingRepositoryJpa, atLeast(1))
-                .findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class));
+                .findBookingByItem_Owner_IdAndStatus(anyLong(), any(Status.class), any(Pageable.class));
         assertEquals(0, bookingsResponse.size());
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class HibernateSecondLevelCacheTest {
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private ItemRequestJpa itemRequestJpa;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DirtiesContext
+    void entityIsLoadedFromSecondLevelCacheTest() {
+        User user = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+        Item item = itemRepositoryJpa.save(new Item(null, "Дрель", "Простая дрель", true, user, null));
+        itemRepositoryJpa.findById(item.getId());
+        userRepositoryJpa.findById(user.getId());
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        assertEquals("Дрель", itemRepositoryJpa.findById(item.getId()).orElseThrow().getName());
+        assertEquals("Иван", userRepositoryJpa.findById(user.getId()).orElseThrow().getName());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("items").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+    }
+
+    @Test
+    @DirtiesContext
+    void updatedEntityIsNotStaleTest() {
+        User user = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+        userRepositoryJpa.findById(user.getId());
+        user.setName("Пётр");
+        userRepositoryJpa.save(user);
+
+        assertEquals("Пётр", userRepositoryJpa.findById(user.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DirtiesContext
+    void queryCacheIsInvalidatedByInsertTest() {
+        User user = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+        ItemRequest request = itemRequestJpa.save(new ItemRequest(null, "Нужна дрель", LocalDateTime.now(), user));
+        itemRepositoryJpa.save(new Item(null, "Дрель", "Простая дрель", true, user, request));
+        Statistics statistics = statistics();
+
+        assertEquals(1, itemRepositoryJpa.findByRequest_Id(request.getId()).size());
+        statistics.clear();
+        assertEquals(1, itemRepositoryJpa.findByRequest_Id(request.getId()).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        itemRepositoryJpa.save(new Item(null, "Дрель+", "Дрель с аккумулятором", true, user, request));
+        assertEquals(2, itemRepositoryJpa.findByRequest_Id(request.getId()).size());
+    }
+
+    @Test
+    @DirtiesContext
+    void cacheStatisticsArePublishedAsMetricsTest() {
+        assertFalse(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "users")
+                .meters().isEmpty());
+        assertFalse(meterRegistry.find("hibernate.cache.query.requests").meters().isEmpty());
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-cache-primary",
+        "shareit.datasource.replica.urls=" + ReplicaReadCacheTest.REPLICA_URL,
+        "shareit.datasource.replica.lag-query=select coalesce(max(seconds), 0) from replica_lag",
+        "shareit.datasource.replica.check-delay-ms=3600000",
+        "shareit.search.engine=sql"})
+class ReplicaReadCacheTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-cache-replica;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA = "replica-0";
+
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "admin", "admin")
+                .locations("classpath:db/migration")
+                .placeholders(Map.of("id_allocation_size", "50"))
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private ItemRequestJpa itemRequestJpa;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService requestService;
+
+    @Test
+    @DirtiesContext
+    void laggingReplicaReadsAreNotCachedTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User requester = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+        ItemRequest request = itemRequestJpa.save(new ItemRequest(null, "Нужна дрель",
+                LocalDateTime.now(), requester));
+        Item item = itemRepositoryJpa.save(new Item(null, "Дрель", "Ударная дрель", true, owner, request));
+        JdbcTemplate replica = laggingReplica();
+        replica.update("insert into users (user_id, name, email) values (?, ?, ?), (?, ?, ?)",
+                owner.getId(), "Владелец", "owner@yandex.ru", requester.getId(), "Старое имя", "ivan@yandex.ru");
+        replica.update("insert into items_request (request_id, description, created, owner_id) values (?, ?, ?, ?)",
+                request.getId(), "Старое описание", request.getCreated(), requester.getId());
+        entityManagerFactory.getCache().evictAll();
+
+        assertEquals("Старое имя", userService.getUser(requester.getId()).getName());
+        ItemRequestsResponseDto stale = requestService.getRequest(requester.getId(), request.getId());
+        assertEquals("Старое описание", stale.getDescription());
+        assertEquals(0, stale.getItems().size());
+        assertEquals(0, itemService.searchItem("дрель", owner.getId(), 0, 10).size());
+
+        replica.execute("create table replica_lag (seconds double precision)");
+        replica.update("insert into replica_lag values (60)");
+        routingDataSource.checkReplicas();
+        assertEquals(Set.of(), routingDataSource.getAvailableReplicas());
+
+        assertEquals("Иван", userService.getUser(requester.getId()).getName());
+        ItemRequestsResponseDto actual = requestService.getRequest(requester.getId(), request.getId());
+        assertEquals("Нужна дрель", actual.getDescription());
+        assertEquals(List.of(item.getId()), actual.getItems().stream()
+                .map(ItemToRequestResponse::getId).collect(Collectors.toList()));
+        assertEquals(List.of(item.getId()), itemService.searchItem("дрель", owner.getId(), 0, 10).stream()
+                .map(ItemDto::getId).collect(Collectors.toList()));
+    }
+
+    private JdbcTemplate laggingReplica() {
+        return new JdbcTemplate((DataSource) routingDataSource.getResolvedDataSources().get(REPLICA));
+    }
+}
@@ -0,0 +1,126 @@
+package ru.practicum.shareit.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import javax.persistence.EntityManager;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing",
+        "shareit.datasource.replica.urls=jdbc:h2:mem:replica-routing",
+        "shareit.datasource.replica.lag-query=select coalesce(max(seconds), 0) from replica_lag",
+        "shareit.datasource.replica.check-delay-ms=3600000"})
+class ReplicaRoutingDataSourceTest {
+    private static final String REPLICA = "replica-0";
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DirtiesContext
+    void readOnlyTransactionIsServedByReplicaTest() {
+        userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+
+        assertEquals(REPLICA, readOnlyTarget());
+    }
+
+    @Test
+    @DirtiesContext
+    void writeTransactionIsServedByPrimaryTest() {
+        String target = new TransactionTemplate(transactionManager).execute(status -> {
+            userRepositoryJpa.saveAndFlush(new User(null, "Иван", "ivan@yandex.ru"));
+            return activeTarget();
+        });
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, target);
+    }
+
+    @Test
+    @DirtiesContext
+    void laggingReplicaIsSkippedUntilItCatchesUpTest() {
+        jdbcTemplate.execute("create table replica_lag (seconds double precision)");
+        jdbcTemplate.update("insert into replica_lag values (60)");
+        routingDataSource.checkReplicas();
+
+        assertEquals(Set.of(), routingDataSource.getAvailableReplicas());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, readOnlyTarget());
+
+        jdbcTemplate.update("update replica_lag set seconds = 0.5");
+        routingDataSource.checkReplicas();
+
+        assertEquals(Set.of(REPLICA), routingDataSource.getAvailableReplicas());
+        assertEquals(REPLICA, readOnlyTarget());
+    }
+
+    @Test
+    @DirtiesContext
+    void unreachableReplicaFallsBackToPrimaryTest() {
+        User user = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+        ((HikariDataSource) routingDataSource.getResolvedDataSources().get(REPLICA)).close();
+
+        User found = readOnly().execute(status -> userRepositoryJpa.findAll().get(0));
+
+        assertEquals(user.getId(), found.getId());
+        assertEquals(Set.of(), routingDataSource.getAvailableReplicas());
+    }
+
+    @Test
+    @DirtiesContext
+    void readOnlyTransactionIsNotFlushedTest() {
+        User user = userRepositoryJpa.save(new User(null, "Иван", "ivan@yandex.ru"));
+
+        FlushMode flushMode = readOnly().execute(status -> {
+            userRepositoryJpa.findAll().get(0).setName("Пётр");
+            return entityManager.unwrap(Session.class).getHibernateFlushMode();
+        });
+
+        assertEquals(FlushMode.MANUAL, flushMode);
+        assertEquals("Иван", userRepositoryJpa.findById(user.getId()).orElseThrow().getName());
+    }
+
+    private String readOnlyTarget() {
+        return readOnly().execute(status -> {
+            assertTrue(userRepositoryJpa.findAll().size() <= 1);
+            return activeTarget();
+        });
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String activeTarget() {
+        return routingDataSource.getResolvedDataSources().entrySet().stream()
+                .filter(e -> {
+                    HikariDataSource pool = (HikariDataSource) e.getValue();
+                    return pool.getHikariPoolMXBean() != null && pool.getHikariPoolMXBean().getActiveConnections() > 0;
+                })
+                .map(e -> (String) e.getKey())
+                .reduce((a, b) -> a + "," + b)
+                .orElse("");
+    }
+}
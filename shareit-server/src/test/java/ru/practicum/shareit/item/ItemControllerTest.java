@@ -7,22 +7,31 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.exception.NotFoundDataException;
 import ru.practicum.shareit.item.dto.CommentResearchDto;
 import ru.practicum.shareit.item.dto.CommentResponseDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -31,6 +40,8 @@ class ItemControllerTest {
     private ObjectMapper mapper;
     @MockBean
     private ItemService service;
+    @MockBean
+    private ItemImportService importService;
     @Autowired
     private MockMvc mvc;
 
@@ -227,7 +238,7 @@ class ItemControllerTest {
         ItemDto itemDto2 = new ItemDto(2L, "Предмет 2", "Описание 2",
                 true, null, null, new ArrayList<>(), null);
 
-        when(service.searchItem(anyString(), anyLong()))
+        when(service.searchItem(anyString(), anyLong(), anyLong(), anyLong()))
                 .thenReturn(List.of(itemDto1, itemDto2));
 
         mvc.perform(get("/items/search?text=пре")
@@ -301,4 +312,64 @@ class ItemControllerTest {
                         .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))))
                 .andExpect(jsonPath("$.authorName",  is("Яндекс")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getItemAutocompleteTest() throws Exception {
+        when(service.autocompleteItem("пре", 3L, 5))
+                .thenReturn(List.of("Предмет 1", "Предмет 2"));
+
+        mvc.perform(get("/items/autocomplete?prefix=пре&size=5")
+                        .accept(MediaType.ALL)
+                        .header("X-Sharer-User-Id", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0]", is("Предмет 1")))
+                .andExpect(jsonPath("$[1]", is("Предмет 2")));
+    }
+
+    @Test
+    void saveItemsTest() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ImportResultDto> results = invocation.getArgument(2);
+            results.accept(new ImportResultDto(1L, 5L, null));
+            results.accept(new ImportResultDto(2L, null, "name: must not be blank"));
+            return new ImportSummary(2, 1);
+        }).when(importService).importItems(any(), eq(1L), any());
+
+        MvcResult result = mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1)
+                        .content("{\"name\":\"Дрель\",\"description\":\"Описание\",\"available\":true}\n"
+                                + "{\"name\":\"\",\"description\":\"Описание\",\"available\":true}\n")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].row", is(1)))
+                .andExpect(jsonPath("$[0].id", is(5)))
+                .andExpect(jsonPath("$[1].row", is(2)))
+                .andExpect(jsonPath("$[1].error", is("name: must not be blank")));
+    }
+
+    @Test
+    void saveItemsTestUnknownUser() throws Exception {
+        doThrow(new NotFoundDataException("Пользователя с id = 1 не найден"))
+                .when(importService).importItems(any(), eq(1L), any());
+
+        MvcResult result = mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 1)
+                        .content("{\"name\":\"Дрель\",\"description\":\"Описание\",\"available\":true}\n")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+}
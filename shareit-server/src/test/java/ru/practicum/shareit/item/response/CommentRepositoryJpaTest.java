@@ -75,4 +75,28 @@ class CommentRepositoryJpaTest {
         List<Comment> comments = repositoryJpa.findCommentByItem_Id(1L);
         assertEquals(2,comments.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void findCommentByItem_IdInTest() {
+        User user = new User(null, "Пользователь 1", "user1@yandex.ru");
+        User user2 = new User(null, "Пользователь 2", "user2@yandex.ru");
+        Item item1 = new Item(null, "Аккумуляторная дрель", "Аккумуляторная дрель с зарядкой",
+                true, user, null);
+        Item item2 = new Item(null, "Отвертка", "Аккумуляторная отвертка", true, user, null);
+        Item item3 = new Item(null, "Молоток", "Молоток с гвоздодером", true, user, null);
+        userRepositoryJpa.save(user);
+        userRepositoryJpa.save(user2);
+        itemRepositoryJpa.save(item1);
+        itemRepositoryJpa.save(item2);
+        itemRepositoryJpa.save(item3);
+        repositoryJpa.save(new Comment(null, "Текст 1", user2, item1, LocalDateTime.now()));
+        repositoryJpa.save(new Comment(null, "Текст 2", user2, item2, LocalDateTime.now()));
+        repositoryJpa.save(new Comment(null, "Текст 3", user2, item3, LocalDateTime.now()));
+        List<Comment> comments = repositoryJpa.findCommentByItem_IdIn(List.of(item1.getId(), item2.getId()));
+        assertEquals(2, comments.size());
+        assertEquals("Текст 1", comments.get(0).getText());
+        assertEquals("Текст 2", comments.get(1).getText());
+    }
+}
+
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.response.ItemRequestJpa;
 import ru.practicum.shareit.user.model.User;
@@ -27,14 +29,14 @@ class ItemRepositoryJpaTest {
 
     @Test
     @DirtiesContext
-    void findByNameAndDescriptionTestEmpty() {
-        List<Item> items = repositoryJpa.findByNameAndDescription("я", "я");
+    void findAvailableItemIdByTextTestEmpty() {
+        List<Long> items = repositoryJpa.findAvailableItemIdByText("я", OffsetPageRequest.of(0, 20));
         assertTrue(items.isEmpty());
     }
 
     @Test
     @DirtiesContext
-    void findByNameAndDescriptionTestOneItem() {
+    void findAvailableItemIdByTextTestOneItem() {
         User user = new User(null, "Пользователь 1", "user1@yandex.ru");
         Item item1 = new Item(null, "Аккумуляторная дрель", "Аккумуляторная дрель с зарядкой",
                 true, user, null);
@@ -44,13 +46,13 @@ class ItemRepositoryJpaTest {
         repositoryJpa.save(item1);
         repositoryJpa.save(item2);
         assertEquals(2, repositoryJpa.findAll().size());
-        List<Item> items = repositoryJpa.findByNameAndDescription("водяная", "водяная");
+        List<Long> items = repositoryJpa.findAvailableItemIdByText("водяная", OffsetPageRequest.of(0, 20));
         assertEquals(1, items.size());
     }
 
     @Test
     @DirtiesContext
-    void findByNameAndDescriptionTestTwoItem() {
+    void findAvailableItemIdByTextTestTwoItem() {
         User user = new User(null, "Пользователь 1", "user1@yandex.ru");
         Item item1 = new Item(null, "Аккумуляторная дрель", "Аккумуляторная дрель с зарядкой",
                 true, user, null);
@@ -60,8 +62,10 @@ class ItemRepositoryJpaTest {
         repositoryJpa.save(item1);
         repositoryJpa.save(item2);
         assertEquals(2, repositoryJpa.findAll().size());
-        List<Item> items = repositoryJpa.findByNameAndDescription("ДРель", "ДРель");
-        assertEquals(2, items.size());
+        List<Long> items = repositoryJpa.findAvailableItemIdByText("ДРель", OffsetPageRequest.of(0, 20));
+        assertEquals(List.of(item1.getId(), item2.getId()), items);
+        assertEquals(List.of(item2.getId()), repositoryJpa.findAvailableItemIdByText("рел",
+                OffsetPageRequest.of(1, 1)));
     }
 
     @Test
@@ -198,7 +202,7 @@ class ItemRepositoryJpaTest {
         repositoryJpa.save(item3);
         repositoryJpa.save(item4);
         repositoryJpa.save(item5);
-        List<Item> items = repositoryJpa.findByRequest_IdIn(List.of(1L, 3L, 5L));
+        List<ItemToRequestResponse> items = repositoryJpa.findByRequest_IdIn(List.of(1L, 3L, 5L));
         assertEquals(5, repositoryJpa.findAll().size());
         assertEquals(3, items.size());
     }
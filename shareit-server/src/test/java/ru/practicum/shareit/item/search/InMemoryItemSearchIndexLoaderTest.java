@@ -0,0 +1,42 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryItemSearchIndexLoaderTest {
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+
+    @Test
+    void loadTestScansItemsOnceForAllIndexes() {
+        User owner = new User(1L, "Владелец", "owner@yandex.ru");
+        when(itemRepositoryJpa.findAvailableItemAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(List.of(
+                new Item(1L, "Аккумуляторная дрель", "Дрель с зарядкой", true, owner, null),
+                new Item(2L, "Отвертка", "Аккумуляторная отвертка", true, owner, null)));
+        ItemTokenIndex tokenIndex = new ItemTokenIndex(itemRepositoryJpa);
+        ItemAutocompleteIndex autocompleteIndex = new ItemAutocompleteIndex(itemRepositoryJpa);
+        TrigramItemSearchIndex trigramIndex = new TrigramItemSearchIndex(itemRepositoryJpa);
+
+        new InMemoryItemSearchIndexLoader(itemRepositoryJpa, List.of(tokenIndex, autocompleteIndex, trigramIndex))
+                .load();
+
+        verify(itemRepositoryJpa, times(1)).findAvailableItemAfter(anyLong(), any());
+        assertEquals(List.of(1L), new TokenItemSearchIndex(tokenIndex).search("дрель", 0, 10));
+        assertEquals(List.of("Аккумуляторная дрель"), autocompleteIndex.complete("акк", 10));
+        assertEquals(List.of(2L), trigramIndex.search("отвертка", 0, 10));
+    }
+}
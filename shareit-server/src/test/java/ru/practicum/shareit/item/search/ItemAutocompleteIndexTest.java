@@ -0,0 +1,70 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class ItemAutocompleteIndexTest {
+    private ItemAutocompleteIndex autocompleteIndex;
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+
+    @BeforeEach
+    public void setUp() {
+        when(itemRepositoryJpa.findAvailableItemAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(List.of(
+                new Item(1L, "Дрель", "Дрель", true, null, null),
+                new Item(2L, "Дрель-миксер", "Дрель", true, null, null),
+                new Item(3L, "дрель", "Еще одна дрель", true, null, null),
+                new Item(4L, "Домкрат", "Домкрат", true, null, null)));
+        autocompleteIndex = new ItemAutocompleteIndex(itemRepositoryJpa);
+        autocompleteIndex.rebuild();
+    }
+
+    @Test
+    void completeTestPopularFirst() {
+        assertEquals(List.of("дрель", "Дрель-миксер"), autocompleteIndex.complete("ДР", 10));
+        assertEquals(List.of("дрель", "Домкрат", "Дрель-миксер"), autocompleteIndex.complete("д", 10));
+        assertEquals(List.of("дрель"), autocompleteIndex.complete("д", 1));
+        assertTrue(autocompleteIndex.complete("перф", 10).isEmpty());
+        assertTrue(autocompleteIndex.complete(" ", 10).isEmpty());
+    }
+
+    @Test
+    void indexTestUpdatesAndRemovesNames() {
+        autocompleteIndex.index(new Item(1L, "Перфоратор", "Перфоратор", true, null, null));
+        autocompleteIndex.index(new Item(3L, "дрель", "Еще одна дрель", false, null, null));
+        assertEquals(List.of("Дрель-миксер"), autocompleteIndex.complete("др", 10));
+        assertEquals(List.of("Перфоратор"), autocompleteIndex.complete("перф", 10));
+
+        autocompleteIndex.index(new Item(2L, "Дрель-миксер", "Дрель", false, null, null));
+        assertTrue(autocompleteIndex.complete("др", 10).isEmpty());
+        assertEquals(List.of("Домкрат"), autocompleteIndex.complete("д", 10));
+    }
+
+    @Test
+    void completeTestLargeIndex() {
+        for (long id = 5; id < 50_000; id++) {
+            autocompleteIndex.index(new Item(id, "Предмет " + id, "Описание", true, null, null));
+        }
+        int queries = 10_000;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            assertEquals(10, autocompleteIndex.complete("предмет 1", 10).size());
+        }
+        log.info("Подсказки среди 50000 названий: {} ns на запрос", (System.nanoTime() - startedAt) / queries);
+        assertEquals(List.of("Предмет 12345"), autocompleteIndex.complete("предмет 12345", 10));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemMatchIndexTest {
+    private ItemMatchIndex matchIndex;
+    private ItemTokenIndex tokenIndex;
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+
+    @BeforeEach
+    public void setUp() {
+        User owner = new User(1L, "Владелец", "owner@yandex.ru");
+        User another = new User(2L, "Другой", "another@yandex.ru");
+        when(itemRepositoryJpa.findAvailableItemAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(List.of(
+                new Item(1L, "Аккумуляторная дрель", "Дрель с зарядкой", true, owner, null),
+                new Item(2L, "Отвертка", "Аккумуляторная отвертка, зарядка в комплекте", true, owner, null),
+                new Item(3L, "Щётка для обуви", "Щётка и крем", true, owner, null),
+                new Item(4L, "Дрель-миксер", "Миксер для краски", true, another, null)));
+        tokenIndex = new ItemTokenIndex(itemRepositoryJpa);
+        tokenIndex.rebuild();
+        matchIndex = new ItemMatchIndex(tokenIndex);
+    }
+
+    @Test
+    void matchTestAnyTermAndWordForms() {
+        assertEquals(List.of(1L, 4L), List.copyOf(matchIndex.match("Нужна дрель или шуруповёрт", 3L, 5).keySet()));
+        assertEquals(List.of(3L), List.copyOf(matchIndex.match("Ищу щётку для обуви", 3L, 5).keySet()));
+        assertEquals(List.of(2L, 1L, 4L),
+                List.copyOf(matchIndex.match("Дрели и аккумуляторные отвертки", 3L, 5).keySet()));
+        assertTrue(matchIndex.match("Палатка", 3L, 5).isEmpty());
+        assertTrue(matchIndex.match("и на", 3L, 5).isEmpty());
+    }
+
+    @Test
+    void matchTestExcludesOwnItemsAndLimits() {
+        assertEquals(List.of(4L), List.copyOf(matchIndex.match("дрель", 1L, 5).keySet()));
+        assertEquals(List.of(1L), List.copyOf(matchIndex.match("дрель", 3L, 1).keySet()));
+    }
+
+    @Test
+    void matchTestRareTermsWeighMore() {
+        assertEquals(List.of(4L, 1L), List.copyOf(matchIndex.match("Дрель для краски", 3L, 5).keySet()));
+    }
+
+    @Test
+    void indexTestReplacesAndRemovesItem() {
+        tokenIndex.index(new Item(1L, "Перфоратор", "Перфоратор с зарядкой", true, new User(1L, null, null), null));
+        tokenIndex.index(new Item(4L, "Дрель-миксер", "Миксер для краски", false, another(), null));
+        assertTrue(matchIndex.match("дрель", 3L, 5).isEmpty());
+        assertEquals(List.of(1L), List.copyOf(matchIndex.match("перфоратор", 3L, 5).keySet()));
+    }
+
+    private static User another() {
+        return new User(2L, null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.item.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchCacheTest {
+    private ItemSearchCache searchCache;
+    private MeterRegistry meterRegistry;
+    @Mock
+    private ItemSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new ItemSearchCache(searchIndex, meterRegistry, 2, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void searchTestNormalizedQueryServedFromCache() {
+        when(searchIndex.search("дрель", 0, 20)).thenReturn(List.of(1L, 2L));
+        assertEquals(List.of(1L, 2L), searchCache.search("Дрель ", 0, 20));
+        assertEquals(List.of(1L, 2L), searchCache.search(" ДРЕЛЬ", 0, 20));
+        verify(searchIndex, times(1)).search("дрель", 0, 20);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "itemSearch").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "itemSearch").tag("result", "miss")
+                .functionCounter().count());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "itemSearch").functionCounter());
+    }
+
+    @Test
+    void invalidateTestOnlyMatchingQueries() {
+        Item before = new Item(1L, "Дрель", "Дрель", true, null, null);
+        Item after = new Item(1L, "Перфоратор", "Перфоратор", true, null, null);
+        when(searchIndex.search(anyString(), anyLong(), anyLong())).thenReturn(List.of(1L));
+        when(searchIndex.matches(anyString(), any(Item.class))).thenAnswer(invocation -> invocation
+                .getArgument(1, Item.class).getName().toLowerCase().contains(invocation.getArgument(0, String.class)));
+        searchCache.search("дрель", 0, 20);
+        searchCache.search("перф", 0, 20);
+        searchCache.search("отвертка", 0, 20);
+
+        searchCache.invalidate(before, after);
+        searchCache.search("дрель", 0, 20);
+        searchCache.search("перф", 0, 20);
+        searchCache.search("отвертка", 0, 20);
+
+        verify(searchIndex, times(2)).search("дрель", 0, 20);
+        verify(searchIndex, times(2)).search("перф", 0, 20);
+        verify(searchIndex, times(1)).search("отвертка", 0, 20);
+    }
+
+    @Test
+    void searchTestResultLoadedDuringInvalidationNotCached() {
+        Item item = new Item(1L, "Дрель", "Дрель", true, null, null);
+        when(searchIndex.search("дрель", 0, 20)).thenAnswer(invocation -> {
+            searchCache.invalidate(null, item);
+            return List.of();
+        });
+        searchCache.search("дрель", 0, 20);
+        searchCache.search("дрель", 0, 20);
+        verify(searchIndex, times(2)).search("дрель", 0, 20);
+    }
+}
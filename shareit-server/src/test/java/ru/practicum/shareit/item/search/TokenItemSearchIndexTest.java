@@ -0,0 +1,68 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenItemSearchIndexTest {
+    private TokenItemSearchIndex searchIndex;
+    private ItemTokenIndex tokenIndex;
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+
+    @BeforeEach
+    public void setUp() {
+        when(itemRepositoryJpa.findAvailableItemAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(List.of(
+                new Item(1L, "Аккумуляторная дрель", "Дрель с зарядкой", true, null, null),
+                new Item(2L, "Отвертка", "Аккумуляторная отвертка, зарядка в комплекте", true, null, null),
+                new Item(3L, "Дрель-миксер", "Миксер для краски", true, null, null)));
+        tokenIndex = new ItemTokenIndex(itemRepositoryJpa);
+        tokenIndex.rebuild();
+        searchIndex = new TokenItemSearchIndex(tokenIndex);
+    }
+
+    @Test
+    void tokenizeTest() {
+        assertEquals(List.of("дрель", "миксер", "220в", "дрель"),
+                ItemSearchTokenizer.tokenize("Дрель-МИКСЕР, 220в  дрель!"));
+        assertEquals(List.of("дрель", "миксер", "220в"), ItemSearchTokenizer.terms("Дрель-МИКСЕР, 220в  дрель!"));
+        assertTrue(ItemSearchTokenizer.terms(" ,. ").isEmpty());
+    }
+
+    @Test
+    void searchTestAllTermsRequired() {
+        assertEquals(List.of(1L, 2L), searchIndex.search("аккумуляторная зарядк", 0, 20));
+        assertTrue(searchIndex.search("дрель отвертка", 0, 20).isEmpty());
+        assertTrue(searchIndex.search("перфоратор", 0, 20).isEmpty());
+    }
+
+    @Test
+    void searchTestRankingAndPaging() {
+        assertEquals(List.of(1L, 3L), searchIndex.search("дрель", 0, 20));
+        assertEquals(List.of(1L, 2L), searchIndex.search("аккумуляторн", 0, 20));
+        assertEquals(List.of(3L), searchIndex.search("дрель", 1, 1));
+        assertTrue(searchIndex.search("дрель", 2, 1).isEmpty());
+    }
+
+    @Test
+    void indexTestReplacesAndRemovesItem() {
+        tokenIndex.index(new Item(1L, "Перфоратор", "Перфоратор с зарядкой", true, null, null));
+        assertEquals(List.of(3L), searchIndex.search("дрель", 0, 20));
+        assertEquals(List.of(1L), searchIndex.search("перф", 0, 20));
+
+        tokenIndex.index(new Item(3L, "Дрель-миксер", "Миксер для краски", false, null, null));
+        assertTrue(searchIndex.search("дрель", 0, 20).isEmpty());
+        assertTrue(searchIndex.search("краски", 0, 20).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class TrigramItemSearchIndexTest {
+    private TrigramItemSearchIndex searchIndex;
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+
+    @BeforeEach
+    public void setUp() {
+        when(itemRepositoryJpa.findAvailableItemAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(List.of(
+                new Item(1L, "Аккумуляторная дрель", "Дрель с зарядкой", true, null, null),
+                new Item(2L, "Отвертка", "Аккумуляторная отвертка, зарядка в комплекте", true, null, null),
+                new Item(3L, "Дрель-миксер", "Миксер для краски", true, null, null)));
+        searchIndex = new TrigramItemSearchIndex(itemRepositoryJpa);
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void searchTestSubstring() {
+        assertEquals(List.of(1L, 3L), searchIndex.search("ДРЕЛ", 0, 20));
+        assertEquals(List.of(3L), searchIndex.search("ль-ми", 0, 20));
+        assertEquals(List.of(1L, 2L), searchIndex.search("умулятор", 0, 20));
+        assertEquals(List.of(1L, 2L, 3L), searchIndex.search("р", 0, 20));
+        assertTrue(searchIndex.search("дрелька", 0, 20).isEmpty());
+    }
+
+    @Test
+    void searchTestAllTermsRequiredAndPaging() {
+        assertEquals(List.of(1L, 2L), searchIndex.search("аккум  зарядк", 0, 20));
+        assertTrue(searchIndex.search("дрель отвертка", 0, 20).isEmpty());
+        assertEquals(List.of(2L), searchIndex.search("аккум зарядк", 1, 1));
+        assertTrue(searchIndex.search("аккум зарядк", 2, 1).isEmpty());
+    }
+
+    @Test
+    void indexTestReplacesAndRemovesItem() {
+        searchIndex.index(new Item(1L, "Перфоратор", "Перфоратор с зарядкой", true, null, null));
+        assertEquals(List.of(3L), searchIndex.search("дрел", 0, 20));
+        assertEquals(List.of(1L), searchIndex.search("форат", 0, 20));
+
+        searchIndex.index(new Item(3L, "Дрель-миксер", "Миксер для краски", false, null, null));
+        assertTrue(searchIndex.search("дрел", 0, 20).isEmpty());
+        assertTrue(searchIndex.search("краск", 0, 20).isEmpty());
+
+        searchIndex.index(new Item(4L, "Краскопульт", "Для краски", true, null, null));
+        assertEquals(List.of(4L), searchIndex.search("краск", 0, 20));
+    }
+
+    @Test
+    void searchTestLargeIndex() {
+        for (long id = 4; id < 20_000; id++) {
+            searchIndex.index(new Item(id, "Предмет номер " + id, "Описание предмета " + id, true, null, null));
+        }
+        int queries = 1_000;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            assertEquals(List.of(1L, 3L), searchIndex.search("дрел", 0, 20));
+        }
+        log.info("Поиск подстроки среди 20000 вещей: {} us на запрос", (System.nanoTime() - startedAt) / queries / 1000);
+        assertEquals(List.of(12_345L), searchIndex.search("номер 12345", 0, 20));
+    }
+}
@@ -0,0 +1,139 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.response.ItemBookingSummaryRepositoryJpa;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ItemBookingSummaryServiceImplIntegrationTest {
+    @Autowired
+    private ItemBookingSummaryService summaryService;
+    @Autowired
+    private ItemBookingSummaryRepositoryJpa summaryRepository;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepositoryJpa bookingRepository;
+    @Autowired
+    private ItemRepositoryJpa itemRepository;
+    @Autowired
+    private UserRepositoryJpa userRepository;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DirtiesContext
+    void approvedBookingUpdatesSummaryTest() {
+        User owner = userRepository.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepository.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        Item item = itemRepository.save(new Item(null, "Предмет", "Описание", true, owner, null));
+        summaryService.createSummary(item.getId());
+        LocalDateTime now = LocalDateTime.now();
+        Booking past = bookingRepository.save(new Booking(null, booker, item, Status.WAITING,
+                now.minusDays(2), now.minusDays(1)));
+        Booking later = bookingRepository.save(new Booking(null, booker, item, Status.WAITING,
+                now.plusDays(5), now.plusDays(6)));
+        Booking sooner = bookingRepository.save(new Booking(null, booker, item, Status.WAITING,
+                now.plusDays(1), now.plusDays(2)));
+        Booking rejected = bookingRepository.save(new Booking(null, booker, item, Status.WAITING,
+                now.plusHours(1), now.plusHours(2)));
+        bookingService.approvedOrRejectBooking(owner.getId(), past.getId(), true);
+        bookingService.approvedOrRejectBooking(owner.getId(), later.getId(), true);
+        bookingService.approvedOrRejectBooking(owner.getId(), sooner.getId(), true);
+        bookingService.approvedOrRejectBooking(owner.getId(), rejected.getId(), false);
+        ItemBookingSummary summary = summaryRepository.findSummaryByItemIdIn(List.of(item.getId())).get(0);
+        assertEquals(past.getId(), summary.getLastBooking().getId());
+        assertEquals(sooner.getId(), summary.getNextBooking().getId());
+    }
+
+    @Test
+    @DirtiesContext
+    void rollSummariesTest() {
+        User owner = userRepository.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepository.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        Item started = itemRepository.save(new Item(null, "Предмет 1", "Описание 1", true, owner, null));
+        Item withoutSummary = itemRepository.save(new Item(null, "Предмет 2", "Описание 2", true, owner, null));
+        LocalDateTime now = LocalDateTime.now();
+        Booking current = bookingRepository.save(new Booking(null, booker, started, Status.APPROVED,
+                now.minusHours(1), now.plusHours(1)));
+        Booking next = bookingRepository.save(new Booking(null, booker, started, Status.APPROVED,
+                now.plusDays(1), now.plusDays(2)));
+        Booking past = bookingRepository.save(new Booking(null, booker, withoutSummary, Status.APPROVED,
+                now.minusDays(2), now.minusDays(1)));
+        summaryRepository.save(new ItemBookingSummary(started.getId(), null, current));
+
+        ItemBookingSummary healed = summaryService.getSummaries(List.of(started.getId())).get(started.getId());
+        assertEquals(current.getId(), healed.getLastBooking().getId());
+        assertEquals(next.getId(), healed.getNextBooking().getId());
+
+        assertEquals(2, summaryService.rollSummaries());
+        assertEquals(0, summaryService.rollSummaries());
+        List<ItemBookingSummary> summaries = summaryRepository
+                .findSummaryByItemIdIn(List.of(started.getId(), withoutSummary.getId()));
+        assertEquals(2, summaries.size());
+        ItemBookingSummary rolled = summaries.stream()
+                .filter(s -> s.getItemId().equals(started.getId()))
+                .findFirst()
+                .orElseThrow();
+        ItemBookingSummary created = summaries.stream()
+                .filter(s -> s.getItemId().equals(withoutSummary.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(current.getId(), rolled.getLastBooking().getId());
+        assertEquals(next.getId(), rolled.getNextBooking().getId());
+        assertEquals(past.getId(), created.getLastBooking().getId());
+        assertNull(created.getNextBooking());
+    }
+
+    @Test
+    @DirtiesContext
+    void removedBookerBookingsAreReplacedInSummaryTest() {
+        User owner = userRepository.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User removed = userRepository.save(new User(null, "Арендатор 1", "booker1@yandex.ru"));
+        User remaining = userRepository.save(new User(null, "Арендатор 2", "booker2@yandex.ru"));
+        Item item = itemRepository.save(new Item(null, "Предмет", "Описание", true, owner, null));
+        summaryService.createSummary(item.getId());
+        LocalDateTime now = LocalDateTime.now();
+        Booking remainingPast = bookingRepository.save(new Booking(null, remaining, item, Status.WAITING,
+                now.minusDays(4), now.minusDays(3)));
+        Booking removedPast = bookingRepository.save(new Booking(null, removed, item, Status.WAITING,
+                now.minusDays(2), now.minusDays(1)));
+        Booking removedNext = bookingRepository.save(new Booking(null, removed, item, Status.WAITING,
+                now.plusDays(1), now.plusDays(2)));
+        Booking remainingNext = bookingRepository.save(new Booking(null, remaining, item, Status.WAITING,
+                now.plusDays(3), now.plusDays(4)));
+        List.of(remainingPast, removedPast, removedNext, remainingNext)
+                .forEach(booking -> bookingService.approvedOrRejectBooking(owner.getId(), booking.getId(), true));
+        assertEquals(removedPast.getId(), itemService.getItem(item.getId(), owner.getId()).getLastBooking().getId());
+
+        userService.removeUser(removed.getId());
+
+        ItemDto itemDto = itemService.getItem(item.getId(), owner.getId());
+        assertEquals(remainingPast.getId(), itemDto.getLastBooking().getId());
+        assertEquals(remainingNext.getId(), itemDto.getNextBooking().getId());
+        assertEquals(1, summaryService.rollSummaries());
+        ItemBookingSummary summary = summaryRepository.findSummaryByItemIdIn(List.of(item.getId())).get(0);
+        assertEquals(remainingPast.getId(), summary.getLastBooking().getId());
+        assertEquals(remainingNext.getId(), summary.getNextBooking().getId());
+    }
+}
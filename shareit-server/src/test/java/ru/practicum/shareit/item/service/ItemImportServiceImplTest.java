@@ -0,0 +1,169 @@
+package ru.practicum.shareit.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.practicum.shareit.bulk.BulkImportReader;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.exception.NotFoundDataException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImportServiceImplTest {
+    @Mock
+    private ItemService itemService;
+    @Mock
+    private UserService userService;
+    private ItemImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ItemImportServiceImpl(itemService, userService, new BulkImportReader(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator()));
+    }
+
+    @Test
+    void importItemsNdjsonTest() {
+        when(itemService.saveItems(anyMap(), eq(1L))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<ImportResultDto> results = importItems(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n"
+                        + "{\"name\":\"\",\"description\":\"Без названия\",\"available\":true}\n"
+                        + "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":\"не знаю\"}\n"
+                        + "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":false,\"requestId\":3}\n",
+                1L);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), rows(results));
+        assertEquals(101L, results.get(0).getId());
+        assertTrue(results.get(1).getError().startsWith("name: "));
+        assertNotNull(results.get(2).getError());
+        assertEquals(104L, results.get(3).getId());
+        ArgumentCaptor<Map<Long, ItemDto>> batch = ArgumentCaptor.forClass(Map.class);
+        verify(itemService).saveItems(batch.capture(), eq(1L));
+        assertEquals(List.of(1L, 4L), List.copyOf(batch.getValue().keySet()));
+        assertEquals(3L, batch.getValue().get(4L).getRequestId());
+    }
+
+    @Test
+    void importItemsJsonArrayInBatchesTest() {
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        when(itemService.saveItems(anyMap(), eq(1L))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<ImportResultDto> results = importItems("["
+                + "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true},"
+                + "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true},"
+                + "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":true}]", 1L);
+
+        assertEquals(List.of(101L, 102L, 103L),
+                results.stream().map(ImportResultDto::getId).collect(Collectors.toList()));
+        verify(itemService, times(2)).saveItems(anyMap(), eq(1L));
+    }
+
+    @Test
+    void importItemsStopsAtMalformedRowTest() {
+        when(itemService.saveItems(anyMap(), eq(1L))).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<ImportResultDto> results = importItems(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n"
+                        + "{\"name\":\"Пила\",\n", 1L);
+
+        assertEquals(List.of(1L, 2L), rows(results));
+        assertEquals(101L, results.get(0).getId());
+        assertNull(results.get(1).getId());
+        assertNotNull(results.get(1).getError());
+    }
+
+    @Test
+    void importItemsRetriesFailedBatchRowByRowTest() {
+        ReflectionTestUtils.setField(importService, "batchSize", 3);
+        when(itemService.saveItems(anyMap(), eq(1L))).thenAnswer(invocation -> {
+            Map<Long, ItemDto> batch = invocation.getArgument(0);
+            if (batch.containsKey(2L)) {
+                throw new DataIntegrityViolationException("items_request_fkey");
+            }
+            return saved(batch);
+        });
+
+        List<ImportResultDto> results = importItems(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n"
+                        + "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true,\"requestId\":9}\n"
+                        + "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":true}\n"
+                        + "{\"name\":\"Отвертка\",\"description\":\"Крестовая\",\"available\":true}\n", 1L);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), rows(results));
+        assertEquals(101L, results.get(0).getId());
+        assertNull(results.get(1).getId());
+        assertNotNull(results.get(1).getError());
+        assertEquals(103L, results.get(2).getId());
+        assertEquals(104L, results.get(3).getId());
+        verify(itemService, times(5)).saveItems(anyMap(), eq(1L));
+    }
+
+    @Test
+    void importItemsStreamsResultsBatchByBatchTest() {
+        ReflectionTestUtils.setField(importService, "batchSize", 1);
+        List<ImportResultDto> results = new ArrayList<>();
+        when(itemService.saveItems(anyMap(), eq(1L))).thenAnswer(invocation -> {
+            Map<Long, ItemDto> batch = invocation.getArgument(0);
+            assertEquals(batch.keySet().iterator().next() - 1, results.size());
+            return saved(batch);
+        });
+
+        importService.importItems(body(
+                "{\"name\":\"Дрель\",\"description\":\"Ударная\",\"available\":true}\n"
+                        + "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}\n"), 1L,
+                results::add);
+
+        assertEquals(List.of(1L, 2L), rows(results));
+    }
+
+    @Test
+    void importItemsUnknownUserTest() {
+        doThrow(new NotFoundDataException("Пользователя с id = 1 не найден")).when(userService).validateUser(1L);
+
+        assertThrows(NotFoundDataException.class, () -> importItems("[]", 1L));
+        verify(itemService, never()).saveItems(anyMap(), anyLong());
+    }
+
+    private List<ImportResultDto> importItems(String content, long userId) {
+        List<ImportResultDto> results = new ArrayList<>();
+        ImportSummary summary = importService.importItems(body(content), userId, results::add);
+        assertEquals(results.size(), summary.getRows());
+        assertEquals(results.stream().filter(result -> result.getError() != null).count(), summary.getErrors());
+        return results;
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> rows(List<ImportResultDto> results) {
+        return results.stream().map(ImportResultDto::getRow).collect(Collectors.toList());
+    }
+
+    private static List<ImportResultDto> saved(Map<Long, ItemDto> batch) {
+        return batch.keySet().stream()
+                .map(row -> new ImportResultDto(row, 100 + row, null))
+                .collect(Collectors.toList());
+    }
+}
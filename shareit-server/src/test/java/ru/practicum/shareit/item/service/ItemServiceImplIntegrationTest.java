@@ -7,6 +7,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.dto.BookingResearchDto;
 import ru.practicum.shareit.booking.dto.BookingResponseToItemDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.bulk.ImportResultDto;
 import ru.practicum.shareit.exception.AnotherUserException;
 import ru.practicum.shareit.exception.NotBookingException;
 import ru.practicum.shareit.exception.NotFoundDataException;
@@ -20,7 +21,10 @@ import ru.practicum.shareit.user.service.UserService;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,6 +38,8 @@ class ItemServiceImplIntegrationTest {
     private ItemRepositoryJpa repositoryJpa;
     @Autowired
     private BookingService bookingService;
+    @Autowired
+    private ItemBookingSummaryService summaryService;
 
     @Test
     @DirtiesContext
@@ -277,10 +283,75 @@ class ItemServiceImplIntegrationTest {
         itemService.saveItem(itemDto3, userid);
         itemService.saveItem(itemDto4, userid);
         assertEquals(4, repositoryJpa.findAll().size());
-        List<ItemDto> itemsActual = itemService.searchItem(search, userid);
+        List<ItemDto> itemsActual = itemService.searchItem(search, userid, 0, 20);
         assertEquals(3, itemsActual.size());
     }
 
+    @Test
+    @DirtiesContext
+    void searchItemTestMultiTermRankingAndUpdate() {
+        long userid = 1L;
+        userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        ItemDto drill = itemService.saveItem(new ItemDto(null, "Дрель", "Аккумуляторная дрель с зарядкой", true,
+                null, null, null, null), userid);
+        ItemDto screwdriver = itemService.saveItem(new ItemDto(null, "Отвертка аккумуляторная",
+                "Отвертка", true, null, null, null, null), userid);
+        itemService.saveItem(new ItemDto(null, "Водяная дрель", "Дрель без аккумулятора", false,
+                null, null, null, null), userid);
+
+        List<ItemDto> items = itemService.searchItem("АККУМ дрель", userid, 0, 20);
+        assertEquals(1, items.size());
+        assertEquals(drill.getId(), items.get(0).getId());
+
+        items = itemService.searchItem("аккумуляторная", userid, 0, 20);
+        assertEquals(List.of(screwdriver.getId(), drill.getId()),
+                items.stream().map(ItemDto::getId).collect(Collectors.toList()));
+        assertEquals(drill.getId(), itemService.searchItem("аккумуляторная", userid, 1, 1).get(0).getId());
+        assertEquals(drill.getId(), itemService.searchItem("РЕЛ", userid, 0, 20).get(0).getId());
+
+        assertTrue(itemService.searchItem("шуруп", userid, 0, 20).isEmpty());
+        itemService.updateItem(new ItemDto(null, "Шуруповерт", null, null, null, null, null, null),
+                userid, screwdriver.getId());
+        assertEquals(1, itemService.searchItem("шуруп", userid, 0, 20).size());
+        assertTrue(itemService.searchItem("отвертка аккумуляторная", userid, 0, 20).isEmpty());
+    }
+
+    @Test
+    @DirtiesContext
+    void autocompleteItemTest() {
+        long userid = 1L;
+        userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        ItemDto drill = itemService.saveItem(new ItemDto(null, "Дрель", "Дрель", true,
+                null, null, null, null), userid);
+        itemService.saveItem(new ItemDto(null, "Дрель ударная", "Дрель", true, null, null, null, null), userid);
+        assertEquals(List.of("Дрель", "Дрель ударная"), itemService.autocompleteItem("др", userid, 10));
+
+        itemService.updateItem(new ItemDto(null, null, null, false, null, null, null, null),
+                userid, drill.getId());
+        assertEquals(List.of("Дрель ударная"), itemService.autocompleteItem("др", userid, 10));
+    }
+
+    @Test
+    @DirtiesContext
+    void searchItemTestForgetsItemsOfRemovedOwner() {
+        long removedId = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru")).getId();
+        long ownerId = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru")).getId();
+        itemService.saveItem(new ItemDto(null, "Дрель аккумуляторная", "Дрель", true, null, null, null, null),
+                removedId);
+        ItemDto drill = itemService.saveItem(new ItemDto(null, "Дрель ударная", "Дрель", true,
+                null, null, null, null), ownerId);
+        assertEquals(1, itemService.searchItem("дрель", ownerId, 0, 1).size());
+        assertEquals(List.of("Дрель аккумуляторная", "Дрель ударная"),
+                itemService.autocompleteItem("др", ownerId, 10));
+
+        userService.removeUser(removedId);
+
+        assertEquals(List.of(drill.getId()), itemService.searchItem("дрель", ownerId, 0, 1).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList()));
+        assertEquals(List.of("Дрель ударная"), itemService.autocompleteItem("др", ownerId, 10));
+    }
+
     @Test
     @DirtiesContext
     void searchItemTestThrowsNotFoundDataException() {
@@ -288,7 +359,7 @@ class ItemServiceImplIntegrationTest {
         long userid = 1L;
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
-                () -> itemService.searchItem(search, userid));
+                () -> itemService.searchItem(search, userid, 0, 20));
         assertEquals("Пользователя с id = " + userid + " не найден", ex.getMessage());
     }
 
@@ -335,4 +406,27 @@ class ItemServiceImplIntegrationTest {
         assertEquals(commentResponseExpected.getAuthorName(), commentResponse.getAuthorName());
         assertEquals(commentResponseExpected.getCreated(), commentResponse.getCreated());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void saveItemsTest() {
+        long userId = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru")).getId();
+        Map<Long, ItemDto> rows = new LinkedHashMap<>();
+        rows.put(1L, new ItemDto(null, "Дрель", "Ударная", true, null, null, null, null));
+        rows.put(3L, new ItemDto(null, "Пила", "Ручная", true, null, null, null, 99L));
+        rows.put(4L, new ItemDto(77L, "Молоток", "Большой", false, null, null, null, null));
+
+        List<ImportResultDto> results = itemService.saveItems(rows, userId);
+
+        assertEquals(List.of(1L, 3L, 4L), results.stream().map(ImportResultDto::getRow)
+                .collect(Collectors.toList()));
+        assertEquals("Запрос с id = 99 не найден", results.get(1).getError());
+        List<Long> ids = List.of(results.get(0).getId(), results.get(2).getId());
+        assertNotEquals(77L, ids.get(1));
+        assertEquals(List.of("Дрель", "Молоток"), itemService.getItemToUser(userId).stream()
+                .map(ItemDto::getName).collect(Collectors.toList()));
+        assertEquals(2, summaryService.getSummaries(ids).size());
+        assertEquals(List.of(ids.get(0)), itemService.searchItem("дрель", userId, 0, 10).stream()
+                .map(ItemDto::getId).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.CommentRepositoryJpa;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.statistics.AbstractQueryCountTest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ItemServiceImplQueryCountTest extends AbstractQueryCountTest {
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService itemRequestService;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private ItemRequestJpa itemRequestJpa;
+    @Autowired
+    private BookingRepositoryJpa bookingRepositoryJpa;
+    @Autowired
+    private CommentRepositoryJpa commentRepositoryJpa;
+
+    @Test
+    void getItemToUserQueryCountDoesNotDependOnItemCountTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepositoryJpa.save(new User(null, "Арендатор", "booker@yandex.ru"));
+
+        addItems(owner, booker, 1);
+        long smallCount = countStatements(owner, 1);
+
+        addItems(owner, booker, 30);
+        long largeCount = countStatements(owner, 31);
+
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    void getItemQueryCountTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepositoryJpa.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        addItems(owner, booker, 1);
+        long itemId = itemRepositoryJpa.findByOwnerIdOrderByIdAsc(owner.getId()).get(0).getId();
+
+        assertEquals(6, countStatements("getItem by owner", () -> {
+            ItemDto item = itemService.getItem(itemId, owner.getId());
+            assertNotNull(item.getLastBooking());
+            assertEquals(1, item.getComments().size());
+        }));
+        assertEquals(3, countStatements("getItem by booker", () -> {
+            ItemDto item = itemService.getItem(itemId, booker.getId());
+            assertNull(item.getLastBooking());
+            assertEquals(1, item.getComments().size());
+        }));
+    }
+
+    @Test
+    void saveItemQueryCountTest() {
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User requester = userRepositoryJpa.save(new User(null, "Арендатор", "requester@yandex.ru"));
+        ItemRequestDto requestDto = new ItemRequestDto();
+        requestDto.setDescription("Запрос");
+        long requestId = itemRequestService.saveItemRequest(requester.getId(), requestDto).getId();
+
+        assertEquals(4, countStatements("saveItem", () -> itemService.saveItem(
+                new ItemDto(null, "Предмет", "Описание", true, null), owner.getId())));
+        assertEquals(6, countStatements("saveItem with request", () -> itemService.saveItem(
+                new ItemDto(null, "Предмет", "Описание", true, requestId), owner.getId())));
+    }
+
+    private void addItems(User owner, User booker, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            ItemRequest request = itemRequestJpa.save(new ItemRequest(null, "Запрос " + i, now, booker));
+            Item item = itemRepositoryJpa.save(new Item(null, "Предмет " + i, "Описание " + i, true,
+                    owner, request));
+            bookingRepositoryJpa.save(new Booking(null, booker, item, Status.APPROVED,
+                    now.minusDays(2), now.minusDays(1)));
+            bookingRepositoryJpa.save(new Booking(null, booker, item, Status.APPROVED,
+                    now.plusDays(1), now.plusDays(2)));
+            commentRepositoryJpa.save(new Comment(null, "Комментарий " + i, booker, item, now));
+        }
+    }
+
+    private long countStatements(User owner, int expectedItems) {
+        return countCachedStatements("getItemToUser with " + expectedItems + " items", () -> {
+            List<ItemDto> items = itemService.getItemToUser(owner.getId());
+            assertEquals(expectedItems, items.size());
+            items.forEach(i -> {
+                assertNotNull(i.getLastBooking());
+                assertNotNull(i.getNextBooking());
+                assertEquals(1, i.getComments().size());
+            });
+        });
+    }
+}
@@ -10,6 +10,7 @@ import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.bulk.ImportResultDto;
 import ru.practicum.shareit.exception.AnotherUserException;
 import ru.practicum.shareit.exception.NotBookingException;
 import ru.practicum.shareit.exception.NotFoundDataException;
@@ -20,21 +21,31 @@ import ru.practicum.shareit.item.mapper.CommentMapperImpl;
 import ru.practicum.shareit.item.mapper.ItemMapperImpl;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
 import ru.practicum.shareit.item.response.CommentRepositoryJpa;
 import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.item.search.ItemAutocompleteIndex;
+import ru.practicum.shareit.item.search.ItemSearchCache;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemTokenIndex;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.request.service.ItemRequestFeedService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -51,19 +62,32 @@ class ItemServiceImplTest {
     private ItemRequestJpa itemRequestJpa;
     @Mock
     private CommentRepositoryJpa commentRepositoryJpa;
+    @Mock
+    private ItemBookingSummaryService summaryService;
+    @Mock
+    private ItemSearchIndex searchIndex;
+    @Mock
+    private ItemSearchCache searchCache;
+    @Mock
+    private ItemAutocompleteIndex autocompleteIndex;
+    @Mock
+    private ItemTokenIndex tokenIndex;
+    @Mock
+    private ItemRequestFeedService feedService;
 
     @BeforeEach
     public void setUp() {
         itemService = new ItemServiceImpl(itemRepositoryJpa, new ItemMapperImpl(), userService, bookingRepositoryJpa,
-                itemRequestJpa, new BookingMapperImpl(), new CommentMapperImpl(), commentRepositoryJpa);
+                itemRequestJpa, new BookingMapperImpl(), new CommentMapperImpl(), commentRepositoryJpa, summaryService,
+                searchIndex, searchCache, autocompleteIndex, tokenIndex, feedService);
     }
 
     @Test
     void getItemTestNotFoundDataException() {
         long itemId = 1L;
         long userId = 1L;
-        when(userService.getUser(anyLong())).thenThrow(
-                new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(
+                new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> itemService.getItem(itemId, userId));
@@ -75,7 +99,6 @@ class ItemServiceImplTest {
         long itemId = 1L;
         long userId = 1L;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> itemService.getItem(itemId, userId));
@@ -90,7 +113,6 @@ class ItemServiceImplTest {
         Optional<Item> itemOptional = Optional.of(new Item(1L, "Предмет 1", "Описание 1",
                 true, user1, null));
         List<Comment> comments = new ArrayList<>();
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
         when(commentRepositoryJpa.findCommentByItem_Id(anyLong())).thenReturn(comments);
         ItemDto itemExpected = new ItemDto(1L, "Предмет 1", "Описание 1",
@@ -122,7 +144,6 @@ class ItemServiceImplTest {
         CommentResponseDto commentResponseDto = new CommentResponseDto(1L, "Комментарий 1",
                 "Пользователь 1", created);
         commentsResponseDto.add(commentResponseDto);
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
         when(commentRepositoryJpa.findCommentByItem_Id(anyLong())).thenReturn(comments);
         ItemDto itemExpected = new ItemDto(1L, "Предмет 1", "Описание 1",
@@ -145,12 +166,9 @@ class ItemServiceImplTest {
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
         Optional<Item> itemOptional = Optional.of(new Item(1L, "Предмет 1", "Описание 1",
                 true, user1, null));
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
-        when(bookingRepositoryJpa.findBookingByItemAndStartAfter(anyLong(), any(Status.class)))
-                .thenReturn(new ArrayList<>());
-        when(bookingRepositoryJpa.findBookingByItemAndStartBefore(anyLong(), any(Status.class)))
-                .thenReturn(new ArrayList<>());
+        when(summaryService.getSummaries(anyList()))
+                .thenReturn(Map.of(1L, new ItemBookingSummary(1L, null, null)));
         ItemDto itemExpected = new ItemDto(1L, "Предмет 1", "Описание 1",
                 true, null, null, new ArrayList<>(), null);
         ItemDto itemActual = itemService.getItem(itemId,userId);
@@ -177,12 +195,9 @@ class ItemServiceImplTest {
         Booking bookingLast = new Booking(1L, user1, item, Status.APPROVED, start, end);
         List<Booking> bookings = new ArrayList<>();
         bookings.add(bookingLast);
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
-        when(bookingRepositoryJpa.findBookingByItemAndStartAfter(anyLong(), any(Status.class)))
-                .thenReturn(new ArrayList<>());
-        when(bookingRepositoryJpa.findBookingByItemAndStartBefore(anyLong(), any(Status.class)))
-                .thenReturn(bookings);
+        when(summaryService.getSummaries(anyList()))
+                .thenReturn(Map.of(1L, new ItemBookingSummary(1L, bookings.get(0), null)));
         BookingResponseToItemDto bookingLastResponse = new BookingResponseToItemDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(end),
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(start), 1L);
@@ -217,12 +232,9 @@ class ItemServiceImplTest {
         Booking bookingLast = new Booking(1L, user1, item, Status.APPROVED, startEnd, endEnd);
         List<Booking> bookingsLast = new ArrayList<>();
         bookingsLast.add(bookingLast);
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
-        when(bookingRepositoryJpa.findBookingByItemAndStartAfter(anyLong(), any(Status.class)))
-                .thenReturn(bookingsNext);
-        when(bookingRepositoryJpa.findBookingByItemAndStartBefore(anyLong(), any(Status.class)))
-                .thenReturn(bookingsLast);
+        when(summaryService.getSummaries(anyList()))
+                .thenReturn(Map.of(1L, new ItemBookingSummary(1L, bookingsLast.get(0), bookingsNext.get(0))));
         BookingResponseToItemDto bookingNextResponse = new BookingResponseToItemDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(endNext),
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(startNext), 1L);
@@ -263,12 +275,9 @@ class ItemServiceImplTest {
         CommentResponseDto commentResponseDto = new CommentResponseDto(1L, "Комментарий 1",
                 "Пользователь 1", created);
         commentsResponseDto.add(commentResponseDto);
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findById(anyLong())).thenReturn(itemOptional);
-        when(bookingRepositoryJpa.findBookingByItemAndStartAfter(anyLong(), any(Status.class)))
-                .thenReturn(bookings);
-        when(bookingRepositoryJpa.findBookingByItemAndStartBefore(anyLong(), any(Status.class)))
-                .thenReturn(new ArrayList<>());
+        when(summaryService.getSummaries(anyList()))
+                .thenReturn(Map.of(1L, new ItemBookingSummary(1L, null, bookings.get(0))));
         when(commentRepositoryJpa.findCommentByItem_Id(anyLong())).thenReturn(comments);
         BookingResponseToItemDto bookingNextResponse = new BookingResponseToItemDto(1L,
                 DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(end),
@@ -289,8 +298,8 @@ class ItemServiceImplTest {
     @Test
     void getItemToUserTestThrowsNotFoundDataException() {
         long userId = 1L;
-        when(userService.getUser(anyLong())).thenThrow(
-                new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(
+                new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> itemService.getItemToUser(anyLong()));
@@ -301,12 +310,39 @@ class ItemServiceImplTest {
     void getItemToUserTest() {
         long userId = 1L;
         User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user1);
         when(itemRepositoryJpa.findByOwnerIdOrderByIdAsc(anyLong())).thenReturn(new ArrayList<>());
         List<ItemDto> itemsActual = itemService.getItemToUser(userId);
         assertEquals(0, itemsActual.size());
     }
 
+    @Test
+    void getItemToUserTestBookingsAndComments() {
+        long userId = 1L;
+        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
+        User user2 = new User(2L, "Пользователь 2", "user2@yandex.ru");
+        Item item1 = new Item(1L, "Предмет 1", "Описание 1", true, user1, null);
+        Item item2 = new Item(2L, "Предмет 2", "Описание 2", true, user1, null);
+        LocalDateTime start = LocalDateTime.now();
+        Booking last = new Booking(1L, user2, item1, Status.APPROVED, start.minusDays(2), start.minusDays(1));
+        Booking next = new Booking(2L, user2, item2, Status.APPROVED, start.plusDays(1), start.plusDays(2));
+        Comment comment = new Comment(1L, "Комментарий 1", user2, item1, start);
+        when(itemRepositoryJpa.findByOwnerIdOrderByIdAsc(anyLong())).thenReturn(List.of(item1, item2));
+        when(summaryService.getSummaries(anyList())).thenReturn(Map.of(1L, new ItemBookingSummary(1L, last, null),
+                2L, new ItemBookingSummary(2L, null, next)));
+        when(commentRepositoryJpa.findCommentByItem_IdIn(anyList())).thenReturn(List.of(comment));
+        List<ItemDto> itemsActual = itemService.getItemToUser(userId);
+        assertEquals(2, itemsActual.size());
+        assertEquals(1L, itemsActual.get(0).getLastBooking().getId());
+        assertNull(itemsActual.get(0).getNextBooking());
+        assertEquals(1, itemsActual.get(0).getComments().size());
+        assertNull(itemsActual.get(1).getLastBooking());
+        assertEquals(2L, itemsActual.get(1).getNextBooking().getId());
+        assertEquals(0, itemsActual.get(1).getComments().size());
+        verify(summaryService, times(1)).getSummaries(List.of(1L, 2L));
+        verifyNoInteractions(bookingRepositoryJpa);
+        verify(commentRepositoryJpa, never()).findCommentByItem_Id(anyLong());
+    }
+
     @Test
     void updateItemTestNotFoundDataException() {
         ItemDto itemUpdateDto = new ItemDto(null, "Предмет обновленный 1", null,
@@ -460,6 +496,36 @@ class ItemServiceImplTest {
         verify(itemRepositoryJpa, atLeast(1)).save(any(Item.class));
     }
 
+    @Test
+    void saveItemsTestResolvesOwnerAndRequestsOnce() {
+        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
+        ItemRequest request = new ItemRequest(1L, "Нужна дрель", LocalDateTime.now(), user1);
+        Map<Long, ItemDto> rows = new LinkedHashMap<>();
+        rows.put(1L, new ItemDto(null, "Дрель", "Ударная", true, null, null, null, 1L));
+        rows.put(2L, new ItemDto(null, "Пила", "Ручная", true, null, null, null, 2L));
+        rows.put(3L, new ItemDto(null, "Дрель 2", "Простая", true, null, null, null, 1L));
+        when(userService.getUser(1L)).thenReturn(user1);
+        when(itemRequestJpa.findAllById(Set.of(1L, 2L))).thenReturn(List.of(request));
+        when(itemRepositoryJpa.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<Item> items = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < items.size(); i++) {
+                items.get(i).setId(10L + i);
+            }
+            return items;
+        });
+
+        List<ImportResultDto> results = itemService.saveItems(rows, 1L);
+
+        assertEquals(List.of(new ImportResultDto(1L, 10L, null),
+                new ImportResultDto(2L, null, "Запрос с id = 2 не найден"),
+                new ImportResultDto(3L, 11L, null)), results);
+        verify(userService, times(1)).getUser(1L);
+        verify(itemRequestJpa, times(1)).findAllById(Set.of(1L, 2L));
+        verify(summaryService).createSummaries(List.of(10L, 11L));
+        verify(feedService).addAnswers(anyList());
+        verify(searchCache).invalidate(anyList());
+    }
+
     @Test
     void saveItemTestRequestIdOneThrowNotFoundDataException() {
         ItemDto itemDto1 = new ItemDto(null, "Предмет 1", "Описание 1", true,
@@ -488,17 +554,18 @@ class ItemServiceImplTest {
                 null, null, new ArrayList<>(), 1L);
         assertEquals(itemDtoExpected, itemService.saveItem(itemDto1, id));
         verify(itemRepositoryJpa, atLeast(1)).save(any(Item.class));
+        verify(feedService).addAnswers(List.of(saveItem));
     }
 
     @Test
     void searchItemTestThrowsNotFoundDataException() {
         String search = "дрель";
         long userId = 1L;
-        when(userService.getUser(anyLong())).thenThrow(
-                new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(
+                new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
-                () -> itemService.searchItem(search, userId));
+                () -> itemService.searchItem(search, userId, 0, 20));
         assertEquals("Пользователя с id = " + userId + " не найден", ex.getMessage());
     }
 
@@ -506,22 +573,24 @@ class ItemServiceImplTest {
     void searchItemTestSearchIsBlank() {
         String search = "";
         long userId = 1L;
-        when(userService.getUser(anyLong())).thenReturn(
-                new User(1L, "Пользователь 1", "user1@yandex.ru"));
-        assertEquals(0, itemService.searchItem(search, userId).size());
+        assertEquals(0, itemService.searchItem(search, userId, 0, 20).size());
     }
 
     @Test
     void searchItemTestSearchOneItem() {
         String search = "Предмет 1";
         long userId = 1L;
-        List<Item> items = new ArrayList<>();
-        items.add(new Item(1L, "Предмет 1", "Описание 1", true,
-                new User(2L, "Пользователь 2", "user2@yandex.ru"), null));
-        when(userService.getUser(anyLong())).thenReturn(
-                new User(1L, "Пользователь 1", "user1@yandex.ru"));
-        when(itemRepositoryJpa.findByNameAndDescription(anyString(),anyString())).thenReturn(items);
-        assertEquals(1, itemService.searchItem(search, userId).size());
+        ItemDto item = new ItemDto(1L, "Предмет 1", "Описание 1", true, null);
+        when(searchCache.search(search, 0, 20)).thenReturn(List.of(1L));
+        when(itemRepositoryJpa.findItemDtoByIdIn(List.of(1L))).thenReturn(List.of(item));
+        assertEquals(List.of(item), itemService.searchItem(search, userId, 0, 20));
+    }
+
+    @Test
+    void autocompleteItemTest() {
+        long userId = 1L;
+        when(autocompleteIndex.complete("пред", 10)).thenReturn(List.of("Предмет 1", "Предмет 2"));
+        assertEquals(List.of("Предмет 1", "Предмет 2"), itemService.autocompleteItem("пред", userId, 10));
     }
 
     @Test
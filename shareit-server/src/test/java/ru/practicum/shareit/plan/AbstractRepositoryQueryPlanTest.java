@@ -0,0 +1,183 @@
+package ru.practicum.shareit.plan;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.response.BookingRepositoryJpa;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemBookingSummary;
+import ru.practicum.shareit.item.response.CommentRepositoryJpa;
+import ru.practicum.shareit.item.response.ItemBookingSummaryRepositoryJpa;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.plan.RecordingDataSourcePostProcessor.RecordedQuery;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
+import ru.practicum.shareit.request.response.ItemRequestFeedJpa;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DataJpaTest
+@Import(RecordingDataSourcePostProcessor.class)
+abstract class AbstractRepositoryQueryPlanTest {
+    private static final OffsetPageRequest PAGE = OffsetPageRequest.of(0, 10);
+
+    @Autowired
+    private RecordingDataSourcePostProcessor recorder;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private BookingRepositoryJpa bookingRepository;
+    @Autowired
+    protected ItemRepositoryJpa itemRepository;
+    @Autowired
+    private CommentRepositoryJpa commentRepository;
+    @Autowired
+    private ItemRequestJpa itemRequestRepository;
+    @Autowired
+    private ItemRequestFeedJpa feedRepository;
+    @Autowired
+    private ItemBookingSummaryRepositoryJpa summaryRepository;
+    @Autowired
+    private UserRepositoryJpa userRepository;
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+    private Long requestId;
+
+    protected abstract String explain(Connection connection, RecordedQuery query) throws Exception;
+
+    protected abstract boolean isIndexed(Connection connection, String plan) throws Exception;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User booker = userRepository.save(new User(null, "Арендатор", "booker@yandex.ru"));
+        ItemRequest request = itemRequestRepository.save(new ItemRequest(null, "Запрос", LocalDateTime.now(),
+                booker));
+        Item item = itemRepository.save(new Item(null, "Предмет", "Описание", true, owner, request));
+        Booking booking = bookingRepository.save(new Booking(null, booker, item, Status.APPROVED,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1)));
+        commentRepository.save(new Comment(null, "Комментарий", booker, item, LocalDateTime.now()));
+        summaryRepository.save(new ItemBookingSummary(item.getId(), booking, null));
+        feedRepository.save(new ItemRequestFeed(request.getId(), booker.getId(), request.getDescription(),
+                request.getCreated(), List.of()));
+        entityManager.flush();
+        entityManager.clear();
+        ownerId = owner.getId();
+        bookerId = booker.getId();
+        itemId = item.getId();
+        requestId = request.getId();
+    }
+
+    @Test
+    void bookingRepositoryQueriesUseIndexesTest() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        assertIndexed("findBookingByBooker_IdAndStatus", () -> bookingRepository
+                .findBookingByBooker_IdAndStatus(bookerId, Status.APPROVED, PAGE));
+        assertIndexed("findBookingByBooker_IdOrderByStartDescIdDesc", () -> bookingRepository
+                .findBookingByBooker_IdOrderByStartDescIdDesc(bookerId, PAGE));
+        assertIndexed("findCurrentBookingByBooker_Id", () -> bookingRepository
+                .findCurrentBookingByBooker_Id(bookerId, now, PAGE));
+        assertIndexed("findPastBookingByBooker_Id", () -> bookingRepository
+                .findPastBookingByBooker_Id(bookerId, now, PAGE));
+        assertIndexed("findFutureBookingByBooker_Id", () -> bookingRepository
+                .findFutureBookingByBooker_Id(bookerId, now, PAGE));
+        assertIndexed("findBookingByItem_Owner_IdAndStatus", () -> bookingRepository
+                .findBookingByItem_Owner_IdAndStatus(ownerId, Status.APPROVED, PAGE));
+        assertIndexed("findBookingByItem_Owner_IdOrderByStartDescIdDesc", () -> bookingRepository
+                .findBookingByItem_Owner_IdOrderByStartDescIdDesc(ownerId, PAGE));
+        assertIndexed("findCurrentBookingByItem_Owner_Id", () -> bookingRepository
+                .findCurrentBookingByItem_Owner_Id(ownerId, now, PAGE));
+        assertIndexed("findPastBookingByItem_Owner_Id", () -> bookingRepository
+                .findPastBookingByItem_Owner_Id(ownerId, now, PAGE));
+        assertIndexed("findFutureBookingByItem_Owner_Id", () -> bookingRepository
+                .findFutureBookingByItem_Owner_Id(ownerId, now, PAGE));
+        assertIndexed("findBookingByBooker_IdAfter", () -> bookingRepository
+                .findBookingByBooker_IdAfter(bookerId, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findCurrentBookingByBooker_IdAfter", () -> bookingRepository
+                .findCurrentBookingByBooker_IdAfter(bookerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findPastBookingByBooker_IdAfter", () -> bookingRepository
+                .findPastBookingByBooker_IdAfter(bookerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findFutureBookingByBooker_IdAfter", () -> bookingRepository
+                .findFutureBookingByBooker_IdAfter(bookerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findBookingByBooker_IdAndStatusAfter", () -> bookingRepository
+                .findBookingByBooker_IdAndStatusAfter(bookerId, Status.APPROVED, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findBookingByItem_Owner_IdAfter", () -> bookingRepository
+                .findBookingByItem_Owner_IdAfter(ownerId, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findCurrentBookingByItem_Owner_IdAfter", () -> bookingRepository
+                .findCurrentBookingByItem_Owner_IdAfter(ownerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findPastBookingByItem_Owner_IdAfter", () -> bookingRepository
+                .findPastBookingByItem_Owner_IdAfter(ownerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findFutureBookingByItem_Owner_IdAfter", () -> bookingRepository
+                .findFutureBookingByItem_Owner_IdAfter(ownerId, now, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findBookingByItem_Owner_IdAndStatusAfter", () -> bookingRepository
+                .findBookingByItem_Owner_IdAndStatusAfter(ownerId, Status.APPROVED, now, Long.MAX_VALUE, PAGE));
+        assertIndexed("findLastBookingByItem_IdIn", () -> bookingRepository
+                .findLastBookingByItem_IdIn(List.of(itemId), Status.APPROVED, now));
+        assertIndexed("findNextBookingByItem_IdIn", () -> bookingRepository
+                .findNextBookingByItem_IdIn(List.of(itemId), Status.APPROVED, now));
+        assertIndexed("findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatus", () -> bookingRepository
+                .findBookingByItem_IdAndBooker_IdAndEndBeforeAndStatus(itemId, bookerId, now, Status.APPROVED));
+        assertIndexed("countOverlappingBookings", () -> bookingRepository
+                .countOverlappingBookings(itemId, now, now.plusDays(1), Status.APPROVED));
+        assertIndexed("findBookingByItemAndEndAfter", () -> bookingRepository
+                .findBookingByItemAndEndAfter(itemId, Status.APPROVED, now));
+    }
+
+    @Test
+    void itemRepositoryQueriesUseIndexesTest() throws Exception {
+        assertIndexed("findByOwnerIdOrderByIdAsc", () -> itemRepository.findByOwnerIdOrderByIdAsc(ownerId));
+        assertIndexed("findByRequest_Id", () -> itemRepository.findByRequest_Id(requestId));
+        assertIndexed("findByRequest_IdIn", () -> itemRepository.findByRequest_IdIn(List.of(requestId)));
+        assertIndexed("findAvailableItemAfter", () -> itemRepository.findAvailableItemAfter(0L, PAGE));
+        assertIndexed("findCommentByItem_Id", () -> commentRepository.findCommentByItem_Id(itemId));
+        assertIndexed("findCommentByItem_IdIn", () -> commentRepository.findCommentByItem_IdIn(List.of(itemId)));
+        assertIndexed("findSummaryByItemIdIn", () -> summaryRepository.findSummaryByItemIdIn(List.of(itemId)));
+        assertIndexed("findSummaryByItemIdForUpdate", () -> summaryRepository
+                .findSummaryByItemIdForUpdate(itemId));
+    }
+
+    @Test
+    void itemRequestRepositoryQueriesUseIndexesTest() throws Exception {
+        assertIndexed("findFeedByOwnerId", () -> feedRepository.findFeedByOwnerId(bookerId));
+        assertIndexed("findFeedNotByOwnerId", () -> feedRepository
+                .findFeedNotByOwnerId(ownerId, OffsetPageRequest.of(20, 10)));
+        assertIndexed("findFeedNotByOwnerIdAfter", () -> feedRepository
+                .findFeedNotByOwnerIdAfter(ownerId, LocalDateTime.now(), Long.MAX_VALUE, PAGE));
+        assertIndexed("findFeedByRequestIdInForUpdate", () -> feedRepository
+                .findFeedByRequestIdInForUpdate(List.of(requestId)));
+    }
+
+    protected void assertIndexed(String name, Runnable query) throws Exception {
+        entityManager.clear();
+        recorder.clear();
+        query.run();
+        List<RecordedQuery> queries = recorder.getQueries();
+        assertFalse(queries.isEmpty(), name);
+        try (Connection connection = recorder.getTargetDataSource().getConnection()) {
+            for (RecordedQuery recorded : queries) {
+                String plan = explain(connection, recorded);
+                log.info("{}: {}", name, plan);
+                assertTrue(isIndexed(connection, plan), name + " не использует индекс: " + plan);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.plan;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.plan.RecordingDataSourcePostProcessor.RecordedQuery;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+@EnabledIfEnvironmentVariable(named = "SHAREIT_PLAN_DATASOURCE_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${SHAREIT_PLAN_DATASOURCE_URL}",
+        "spring.datasource.username=${SHAREIT_PLAN_DATASOURCE_USERNAME:admin}",
+        "spring.datasource.password=${SHAREIT_PLAN_DATASOURCE_PASSWORD:admin}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostgresRepositoryQueryPlanTest extends AbstractRepositoryQueryPlanTest {
+
+    @Test
+    void itemSearchQueryUsesIndexTest() throws Exception {
+        assertIndexed("searchItemIds", () -> itemRepository.searchItemIds("предм:* & опис:*",
+                OffsetPageRequest.of(0, 10)));
+    }
+
+    @Override
+    protected String explain(Connection connection, RecordedQuery query) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+        StringJoiner plan = new StringJoiner("\n");
+        try (PreparedStatement statement = query.prepare(connection, "EXPLAIN ");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+
+    @Override
+    protected boolean isIndexed(Connection connection, String plan) {
+        return !plan.contains("Seq Scan");
+    }
+}
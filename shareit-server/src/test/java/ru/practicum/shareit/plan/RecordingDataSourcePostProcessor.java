@@ -0,0 +1,103 @@
+package ru.practicum.shareit.plan;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class RecordingDataSourcePostProcessor implements BeanPostProcessor {
+    private final List<RecordedQuery> queries = new ArrayList<>();
+    private DataSource dataSource;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && dataSource == null) {
+            dataSource = (DataSource) bean;
+            return proxy(DataSource.class, bean, this::wrapConnection);
+        }
+        return bean;
+    }
+
+    public synchronized void clear() {
+        queries.clear();
+    }
+
+    public synchronized List<RecordedQuery> getQueries() {
+        return new ArrayList<>(queries);
+    }
+
+    public DataSource getTargetDataSource() {
+        return dataSource;
+    }
+
+    private Object wrapConnection(Method method, Object result, Object[] args) {
+        if (result instanceof Connection) {
+            return proxy(Connection.class, result, this::wrapStatement);
+        }
+        return result;
+    }
+
+    private Object wrapStatement(Method method, Object result, Object[] args) {
+        if (result instanceof PreparedStatement && method.getName().equals("prepareStatement")) {
+            String sql = (String) args[0];
+            Map<Integer, Object[]> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, result, (m, r, a) -> {
+                if (m.getName().startsWith("set") && a != null && a.length >= 2 && a[0] instanceof Integer) {
+                    parameters.put((Integer) a[0], new Object[]{m, a});
+                } else if (m.getName().equals("executeQuery")) {
+                    record(sql, parameters);
+                }
+                return r;
+            });
+        }
+        return result;
+    }
+
+    private synchronized void record(String sql, Map<Integer, Object[]> parameters) {
+        queries.add(new RecordedQuery(sql, new TreeMap<>(parameters)));
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Wrapper wrapper) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            try {
+                return wrapper.wrap(method, method.invoke(target, args), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+
+    private interface Wrapper {
+        Object wrap(Method method, Object result, Object[] args) throws Exception;
+    }
+
+    public static class RecordedQuery {
+        private final String sql;
+        private final Map<Integer, Object[]> parameters;
+
+        RecordedQuery(String sql, Map<Integer, Object[]> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public PreparedStatement prepare(Connection connection, String prefix) throws Exception {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+            for (Object[] call : parameters.values()) {
+                ((Method) call[0]).invoke(statement, (Object[]) call[1]);
+            }
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.practicum.shareit.plan;
+
+import ru.practicum.shareit.plan.RecordingDataSourcePostProcessor.RecordedQuery;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class RepositoryQueryPlanTest extends AbstractRepositoryQueryPlanTest {
+    private static final Pattern CONSTRAINT_INDEX = Pattern.compile("/\\* PUBLIC\\.(CONSTRAINT_INDEX_\\w+):");
+
+    @Override
+    protected String explain(Connection connection, RecordedQuery query) throws Exception {
+        try (PreparedStatement statement = query.prepare(connection, "EXPLAIN ");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    @Override
+    protected boolean isIndexed(Connection connection, String plan) throws Exception {
+        if (plan.contains(".tableScan")) {
+            return false;
+        }
+        // H2 silently indexes every foreign key, Postgres does not: such an index only counts
+        // when schema.sql declares an index with the same leading columns
+        Matcher matcher = CONSTRAINT_INDEX.matcher(plan);
+        while (matcher.find()) {
+            if (!hasDeclaredIndex(connection, matcher.group(1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasDeclaredIndex(Connection connection, String constraintIndex) throws Exception {
+        List<String> columns = new ArrayList<>();
+        String table = null;
+        try (PreparedStatement statement = connection.prepareStatement("SELECT TABLE_NAME, COLUMN_NAME " +
+                "FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE INDEX_NAME = ? ORDER BY ORDINAL_POSITION")) {
+            statement.setString(1, constraintIndex);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    table = resultSet.getString(1);
+                    columns.add(resultSet.getString(2));
+                }
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT INDEX_NAME, COLUMN_NAME " +
+                "FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE TABLE_NAME = ? AND INDEX_NAME NOT LIKE 'CONSTRAINT_%' " +
+                "AND INDEX_NAME NOT LIKE 'PRIMARY_KEY_%' AND ORDINAL_POSITION <= ? " +
+                "ORDER BY INDEX_NAME, ORDINAL_POSITION")) {
+            statement.setString(1, table);
+            statement.setInt(2, columns.size());
+            String current = null;
+            List<String> prefix = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (!resultSet.getString(1).equals(current)) {
+                        if (prefix.equals(columns)) {
+                            return true;
+                        }
+                        current = resultSet.getString(1);
+                        prefix.clear();
+                    }
+                    prefix.add(resultSet.getString(2));
+                }
+            }
+            return prefix.equals(columns);
+        }
+    }
+}
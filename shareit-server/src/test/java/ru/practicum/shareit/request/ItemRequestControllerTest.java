@@ -8,6 +8,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -21,9 +23,12 @@ import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -108,6 +113,7 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$[1].created", is(responseDto2.getCreated()
                         .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))))
                 .andExpect(jsonPath("$[1].items", is(responseDto2.getItems())));
+        verify(service, times(1)).getRequestsToUser(1L);
     }
 
     @Test
@@ -181,6 +187,26 @@ class ItemRequestControllerTest {
                         is(responseDto2.getItems().get(0).getRequestId()), Long.class));
     }
 
+    @Test
+    void getRequestsToAnotherUsersTestCursor() throws Exception {
+        ItemRequestsResponseDto responseDto1 = new ItemRequestsResponseDto(1L, "Описание 1",
+                LocalDateTime.now(), new ArrayList<>());
+        PageCursor cursor = new PageCursor(LocalDateTime.now().plusMinutes(1), 2L);
+        PageCursor next = new PageCursor(responseDto1.getCreated(), responseDto1.getId());
+        when(service.getRequestsToAnotherUsers(anyLong(), any(PageCursor.class), anyLong()))
+                .thenReturn(new CursorPage<>(List.of(responseDto1), next.encode()));
+        mvc.perform(get("/requests/all?size=1&cursor=" + cursor.encode())
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, next.encode()))
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(responseDto1.getId()), Long.class));
+        verify(service).getRequestsToAnotherUsers(1L, cursor, 1L);
+    }
+
     @Test
     void getRequestById() throws Exception {
         ItemRequestsResponseDto responseDto = new ItemRequestsResponseDto(1L, "Описание 1",
@@ -197,5 +223,20 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.created", is(responseDto.getCreated()
                         .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))))
                 .andExpect(jsonPath("$.items", is(responseDto.getItems())));
+        verify(service, times(1)).getRequest(1L, 1L);
+    }
+
+    @Test
+    void getSuggestionsTest() throws Exception {
+        when(service.getSuggestions(1L, 2L)).thenReturn(List.of(
+                new ItemToRequestResponse(3L, "Дрель", "Ударная дрель", true, null)));
+        mvc.perform(get("/requests/2/suggestions")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(3L), Long.class))
+                .andExpect(jsonPath("$[0].name", is("Дрель")));
     }
-}
\ No newline at end of file
+}
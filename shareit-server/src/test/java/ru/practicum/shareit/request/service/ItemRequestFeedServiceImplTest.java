@@ -0,0 +1,140 @@
+package ru.practicum.shareit.request.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.item.dto.ItemToRequestResponse;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
+import ru.practicum.shareit.request.response.ItemRequestFeedJpa;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRequestFeedServiceImplTest {
+    @Mock
+    private ItemRequestFeedJpa feedJpa;
+    @Mock
+    private ItemRepositoryJpa itemRepositoryJpa;
+    private ItemRequestFeedService feedService;
+    private final User requester = new User(1L, "Пользователь 1", "user1@yandex.ru");
+    private final User owner = new User(2L, "Пользователь 2", "user2@yandex.ru");
+    private final LocalDateTime created = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        feedService = new ItemRequestFeedServiceImpl(feedJpa, itemRepositoryJpa, new ItemRequestMapperImpl(),
+                new ItemMapperImpl());
+    }
+
+    @Test
+    void addAnswersAppendsToStoredFeedTest() {
+        ItemRequest request = new ItemRequest(1L, "Нужна дрель", created, requester);
+        ItemRequestFeed feed = new ItemRequestFeed(1L, 1L, "Нужна дрель", created,
+                List.of(new ItemToRequestResponse(5L, "Дрель", "Ударная", true, 1L)));
+        when(feedJpa.findFeedByRequestIdInForUpdate(Set.of(1L))).thenReturn(List.of(feed));
+
+        feedService.addAnswers(List.of(new Item(3L, "Пила", "Ручная", true, owner, request),
+                new Item(4L, "Молоток", "Большой", true, owner, null)));
+
+        assertEquals(List.of(3L, 5L), ids(feed.getItems()));
+        verify(feedJpa).saveAll(anyCollection());
+        verify(itemRepositoryJpa, never()).findByRequest_IdIn(anyList());
+    }
+
+    @Test
+    void addAnswersWithoutRequestDoesNothingTest() {
+        feedService.addAnswers(List.of(new Item(4L, "Молоток", "Большой", true, owner, null)));
+
+        verifyNoInteractions(feedJpa);
+    }
+
+    @Test
+    void addAnswersCreatesMissingFeedAsStaleTest() {
+        ItemRequest request = new ItemRequest(1L, "Нужна дрель", created, requester);
+        when(feedJpa.findFeedByRequestIdInForUpdate(Set.of(1L))).thenReturn(List.of());
+
+        feedService.addAnswers(List.of(new Item(3L, "Пила", "Ручная", true, owner, request)));
+
+        ArgumentCaptor<Collection<ItemRequestFeed>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(feedJpa).saveAll(saved.capture());
+        ItemRequestFeed feed = saved.getValue().iterator().next();
+        assertEquals(1L, feed.getRequestId());
+        assertEquals(1L, feed.getOwnerId());
+        assertNull(feed.getItems());
+    }
+
+    @Test
+    void updateAnswerMovesItemBetweenRequestsTest() {
+        ItemRequest request = new ItemRequest(2L, "Нужна пила", created, requester);
+        ItemRequestFeed previous = new ItemRequestFeed(1L, 1L, "Нужна дрель", created, new ArrayList<>(List.of(
+                new ItemToRequestResponse(3L, "Пила", "Ручная", true, 1L),
+                new ItemToRequestResponse(5L, "Дрель", "Ударная", true, 1L))));
+        ItemRequestFeed next = new ItemRequestFeed(2L, 1L, "Нужна пила", created, List.of());
+        when(feedJpa.findFeedByRequestIdInForUpdate(Set.of(1L, 2L))).thenReturn(List.of(previous, next));
+
+        feedService.updateAnswer(1L, new Item(3L, "Пила обновленная", "Ручная", false, owner, request));
+
+        assertEquals(List.of(5L), ids(previous.getItems()));
+        assertEquals(List.of(new ItemToRequestResponse(3L, "Пила обновленная", "Ручная", false, 2L)),
+                next.getItems());
+    }
+
+    @Test
+    void updateAnswerReplacesItemInSameRequestTest() {
+        ItemRequest request = new ItemRequest(1L, "Нужна дрель", created, requester);
+        ItemRequestFeed feed = new ItemRequestFeed(1L, 1L, "Нужна дрель", created,
+                List.of(new ItemToRequestResponse(3L, "Дрель", "Ударная", true, 1L)));
+        when(feedJpa.findFeedByRequestIdInForUpdate(Set.of(1L))).thenReturn(List.of(feed));
+
+        feedService.updateAnswer(1L, new Item(3L, "Дрель", "Ударная", false, owner, request));
+
+        assertEquals(List.of(new ItemToRequestResponse(3L, "Дрель", "Ударная", false, 1L)), feed.getItems());
+    }
+
+    @Test
+    void getFeedByOwnerRefreshesOnlyStaleRowsTest() {
+        ItemRequestFeed stored = new ItemRequestFeed(2L, 1L, "Нужна пила", created, List.of());
+        ItemRequestFeed stale = new ItemRequestFeed(1L, 1L, "Нужна дрель", created, null);
+        when(feedJpa.findFeedByOwnerId(1L)).thenReturn(List.of(stored, stale));
+        when(itemRepositoryJpa.findByRequest_IdIn(List.of(1L)))
+                .thenReturn(List.of(new ItemToRequestResponse(3L, "Дрель", "Ударная", true, 1L)));
+
+        assertEquals(List.of(List.of(), List.of(3L)), feedService.getFeedByOwner(1L).stream()
+                .map(dto -> ids(dto.getItems()))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void rollFeedPersistsStaleRowsTest() {
+        ItemRequestFeed stale = new ItemRequestFeed(1L, 1L, "Нужна дрель", created, null);
+        when(feedJpa.findStaleFeed(any())).thenReturn(List.of(stale));
+        when(itemRepositoryJpa.findByRequest_IdIn(List.of(1L))).thenReturn(List.of());
+
+        assertEquals(1, feedService.rollFeed());
+        assertEquals(List.of(), stale.getItems());
+        verify(feedJpa).saveAll(List.of(stale));
+    }
+
+    private static List<Long> ids(List<ItemToRequestResponse> items) {
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.getId()));
+        return ids;
+    }
+}
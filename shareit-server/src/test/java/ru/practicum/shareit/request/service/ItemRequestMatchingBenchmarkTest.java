@@ -0,0 +1,98 @@
+package ru.practicum.shareit.request.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.item.search.ItemTokenIndex;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.request.response.ItemRequestSuggestionJpa;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ItemRequestMatchingBenchmarkTest {
+    private static final int ITEMS = 1000;
+    private static final int REQUESTS = 2000;
+    private static final int TOP_K = 5;
+    private static final int BATCH_SIZE = 50;
+    private static final List<String> WORDS = List.of("дрель", "пила", "молоток", "палатка", "велосипед",
+            "лестница", "перфоратор", "шуруповерт", "тележка", "самокат", "гамак", "мангал", "удочка", "лодка",
+            "проектор", "колонка", "штатив", "рюкзак", "коньки", "лыжи");
+
+    @Autowired
+    private UserRepositoryJpa userRepository;
+    @Autowired
+    private ItemRepositoryJpa itemRepository;
+    @Autowired
+    private ItemRequestJpa requestRepository;
+    @Autowired
+    private ItemRequestSuggestionJpa suggestionRepository;
+    @Autowired
+    private ItemTokenIndex tokenIndex;
+    @Autowired
+    private ItemRequestMatchingQueue matchingQueue;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DirtiesContext
+    void burstOfRequestsIsMatchedInBatchesTest() throws InterruptedException {
+        User owner = userRepository.save(new User(null, "Владелец", "owner@yandex.ru"));
+        User requester = userRepository.save(new User(null, "Арендатор", "requester@yandex.ru"));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            String word = WORDS.get(i % WORDS.size());
+            items.add(new Item(null, word + " " + i, "Хорошая " + word + " в аренду", true, owner, null));
+        }
+        itemRepository.saveAll(items);
+        tokenIndex.rebuild();
+        List<ItemRequest> requests = new ArrayList<>();
+        LocalDateTime created = LocalDateTime.now();
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(new ItemRequest(null, "Нужна " + WORDS.get(i % WORDS.size()) + " на выходные",
+                    created.plusSeconds(i), requester));
+        }
+        requestRepository.saveAll(requests);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        requests.forEach(matchingQueue::submit);
+        long submitted = System.nanoTime() - startedAt;
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(60);
+        while (!matchingQueue.isIdle()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long batches = meterRegistry.timer("shareit.request.match.batch").count();
+        log.info("{} requests submitted in {} ms and matched in {} ms ({} requests/s) with {} batches and {} " +
+                        "statements", REQUESTS, submitted / 1_000_000, elapsed / 1_000_000,
+                REQUESTS * 1_000_000_000L / Math.max(elapsed, 1), batches, statistics.getPrepareStatementCount());
+
+        assertEquals((long) REQUESTS * TOP_K, suggestionRepository.count());
+        assertEquals(REQUESTS, (long) meterRegistry.counter("shareit.request.match.requests").count());
+        assertTrue(batches <= REQUESTS / 10);
+        assertTrue(statistics.getPrepareStatementCount() <= 2 * ((long) REQUESTS * TOP_K / BATCH_SIZE + batches));
+    }
+}
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.request.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRequestMatchingQueueTest {
+    @Mock
+    private ItemRequestMatchingService matchingService;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ItemRequestMatchingQueue matchingQueue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        matchingQueue.shutdown();
+    }
+
+    @Test
+    void submitTestMatchesInBatches() throws InterruptedException {
+        matchingQueue = new ItemRequestMatchingQueue(matchingService, meterRegistry, 1000, 200);
+        List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+        when(matchingService.match(anyList())).thenAnswer(invocation -> {
+            batches.add(invocation.getArgument(0, List.class).size());
+            return 0;
+        });
+
+        for (long id = 1; id <= 450; id++) {
+            matchingQueue.submit(request(id));
+        }
+        awaitIdle();
+
+        assertEquals(450, batches.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batches.stream().allMatch(size -> size <= 200));
+        assertEquals(450.0, meterRegistry.counter("shareit.request.match.requests").count());
+    }
+
+    @Test
+    void submitTestRetriesRequestsOneByOneOnConstraintViolation() throws InterruptedException {
+        matchingQueue = new ItemRequestMatchingQueue(matchingService, meterRegistry, 1000, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> matched = Collections.synchronizedList(new ArrayList<>());
+        when(matchingService.match(anyList())).thenAnswer(invocation -> {
+            List<ItemRequest> batch = invocation.getArgument(0);
+            if (batch.get(0).getId() == 1L) {
+                started.countDown();
+                release.await();
+            }
+            if (batch.size() > 1 || batch.get(0).getId() == 3L) {
+                throw new DataIntegrityViolationException("item_request_suggestion_request_id_fkey");
+            }
+            matched.add(batch.get(0).getId());
+            return 1;
+        });
+
+        matchingQueue.submit(request(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        matchingQueue.submit(request(2L));
+        matchingQueue.submit(request(3L));
+        matchingQueue.submit(request(4L));
+        release.countDown();
+        awaitIdle();
+
+        assertEquals(List.of(1L, 2L, 4L), matched);
+        verify(matchingService, times(5)).match(anyList());
+        assertEquals(3.0, meterRegistry.counter("shareit.request.match.requests").count());
+    }
+
+    @Test
+    void submitTestDropsRequestsWhenQueueIsFull() throws InterruptedException {
+        matchingQueue = new ItemRequestMatchingQueue(matchingService, meterRegistry, 2, 200);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(matchingService.match(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return 0;
+        });
+
+        matchingQueue.submit(request(1L));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (long id = 2; id <= 5; id++) {
+            matchingQueue.submit(request(id));
+        }
+        release.countDown();
+        awaitIdle();
+
+        assertEquals(2.0, meterRegistry.counter("shareit.request.match.dropped").count());
+        assertEquals(3.0, meterRegistry.counter("shareit.request.match.requests").count());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!matchingQueue.isIdle()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static ItemRequest request(long id) {
+        return new ItemRequest(id, "Нужна дрель", LocalDateTime.now(), new User(100L, null, null));
+    }
+}
@@ -8,14 +8,19 @@ import ru.practicum.shareit.exception.NotFoundDataException;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemToRequestResponse;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.response.ItemRequestJpa;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +35,10 @@ class ItemRequestServiceImplIntegrationTest {
     private ItemService itemService;
     @Autowired
     private ItemRequestJpa requestJpa;
+    @Autowired
+    private ItemRequestFeedService feedService;
+    @Autowired
+    private ItemRequestMatchingQueue matchingQueue;
 
     @Test
     @DirtiesContext
@@ -311,4 +320,83 @@ class ItemRequestServiceImplIntegrationTest {
         assertEquals(itemRequestsExpected.getCreated(), itemRequestsActual.getCreated());
         assertEquals(itemRequestsExpected.getItems().size(), itemRequestsActual.getItems().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DirtiesContext
+    void getRequestsToAnotherUsersCursorTest() {
+        long user1Id = 1L;
+        long user2Id = 2L;
+        userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru"));
+        for (int i = 1; i <= 3; i++) {
+            ItemRequestDto requestDto = new ItemRequestDto();
+            requestDto.setDescription("Описание " + i);
+            requestService.saveItemRequest(user1Id, requestDto);
+        }
+        ItemRequestDto ownRequest = new ItemRequestDto();
+        ownRequest.setDescription("Свой запрос");
+        requestService.saveItemRequest(user2Id, ownRequest);
+        CursorPage<ItemRequestsResponseDto> firstPage = requestService
+                .getRequestsToAnotherUsers(user2Id, PageCursor.first(), 2);
+        CursorPage<ItemRequestsResponseDto> secondPage = requestService
+                .getRequestsToAnotherUsers(user2Id, PageCursor.decode(firstPage.getNextCursor()), 2);
+        assertEquals(2, firstPage.getContent().size());
+        assertEquals(3L, firstPage.getContent().get(0).getId());
+        assertEquals(2L, firstPage.getContent().get(1).getId());
+        assertEquals(1, secondPage.getContent().size());
+        assertEquals(1L, secondPage.getContent().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DirtiesContext
+    void requestFeedTracksAnswersTest() {
+        User requester = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        User owner = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru"));
+        ItemRequestDto requestDto = new ItemRequestDto();
+        requestDto.setDescription("Нужен инструмент");
+        long requestId = requestService.saveItemRequest(requester.getId(), requestDto).getId();
+        itemService.saveItem(new ItemDto(null, "Дрель", "Ударная", true, requestId), owner.getId());
+        itemService.saveItems(Map.of(1L, new ItemDto(null, "Пила", "Ручная", true, requestId)), owner.getId());
+
+        assertEquals(List.of("Дрель", "Пила"),
+                names(requestService.getRequestsToUser(requester.getId()).get(0).getItems()));
+        assertEquals(List.of("Дрель", "Пила"),
+                names(requestService.getRequestsToAnotherUsers(owner.getId(), 0, 20).get(0).getItems()));
+
+        userService.removeUser(owner.getId());
+
+        assertEquals(List.of(), requestService.getRequestsToUser(requester.getId()).get(0).getItems());
+        assertEquals(1, feedService.rollFeed());
+        assertEquals(0, feedService.rollFeed());
+    }
+
+    @Test
+    @DirtiesContext
+    void requestSuggestionsTest() throws InterruptedException {
+        User requester = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        User owner = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru"));
+        itemService.saveItem(new ItemDto(null, "Дрель", "Ударная дрель", true, null), owner.getId());
+        itemService.saveItem(new ItemDto(null, "Пила", "Ручная", true, null), owner.getId());
+        itemService.saveItem(new ItemDto(null, "Дрель", "Своя дрель", true, null), requester.getId());
+        ItemRequestDto requestDto = new ItemRequestDto();
+        requestDto.setDescription("Нужна дрель на выходные");
+        long requestId = requestService.saveItemRequest(requester.getId(), requestDto).getId();
+
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!matchingQueue.isIdle()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+
+        List<ItemToRequestResponse> suggestions = requestService.getSuggestions(owner.getId(), requestId);
+        assertEquals(List.of("Ударная дрель"), suggestions.stream()
+                .map(ItemToRequestResponse::getDescription)
+                .collect(Collectors.toList()));
+        assertThrows(NotFoundDataException.class, () -> requestService.getSuggestions(owner.getId(), 100L));
+    }
+
+    private static List<String> names(List<ItemToRequestResponse> items) {
+        return items.stream().map(ItemToRequestResponse::getName).collect(Collectors.toList());
+    }
+}
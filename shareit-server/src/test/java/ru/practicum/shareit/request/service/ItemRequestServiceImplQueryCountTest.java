@@ -0,0 +1,43 @@
+package ru.practicum.shareit.request.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.response.ItemRequestJpa;
+import ru.practicum.shareit.statistics.AbstractQueryCountTest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemRequestServiceImplQueryCountTest extends AbstractQueryCountTest {
+    @Autowired
+    private ItemRequestService requestService;
+    @Autowired
+    private UserRepositoryJpa userRepositoryJpa;
+    @Autowired
+    private ItemRepositoryJpa itemRepositoryJpa;
+    @Autowired
+    private ItemRequestJpa itemRequestJpa;
+
+    @Test
+    void getRequestQueryCountTest() {
+        User requester = userRepositoryJpa.save(new User(null, "Арендатор", "requester@yandex.ru"));
+        User owner = userRepositoryJpa.save(new User(null, "Владелец", "owner@yandex.ru"));
+        ItemRequest request = itemRequestJpa.save(new ItemRequest(null, "Запрос", LocalDateTime.now(), requester));
+        itemRepositoryJpa.save(new Item(null, "Предмет 1", "Описание 1", true, owner, request));
+        itemRepositoryJpa.save(new Item(null, "Предмет 2", "Описание 2", true, owner, request));
+
+        assertEquals(3, countStatements("getRequest", () -> {
+            ItemRequestsResponseDto dto = requestService.getRequest(owner.getId(), request.getId());
+            assertEquals(2, dto.getItems().size());
+        }));
+        assertEquals(3, countStatements("getSuggestions",
+                () -> requestService.getSuggestions(owner.getId(), request.getId())));
+    }
+}
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.exception.NotFoundDataException;
@@ -10,10 +11,13 @@ import ru.practicum.shareit.item.dto.ItemToRequestResponse;
 import ru.practicum.shareit.item.mapper.ItemMapperImpl;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.response.ItemRepositoryJpa;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestsResponseDto;
 import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemRequestFeed;
+import ru.practicum.shareit.request.response.ItemRequestFeedJpa;
 import ru.practicum.shareit.request.response.ItemRequestJpa;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserService;
@@ -37,11 +41,19 @@ class ItemRequestServiceImplTest {
     private ItemRepositoryJpa itemRepositoryJpa;
     @Mock
     private UserService userService;
+    @Mock
+    private ItemRequestFeedJpa feedJpa;
+    @Mock
+    private ItemRequestMatchingService matchingService;
+    @Mock
+    private ItemRequestMatchingQueue matchingQueue;
 
     @BeforeEach
     public void setUp() {
         requestService = new ItemRequestServiceImpl(requestJpa, itemRepositoryJpa, userService,
-                new ItemRequestMapperImpl(), new ItemMapperImpl());
+                new ItemRequestMapperImpl(), new ItemMapperImpl(), new ItemRequestFeedServiceImpl(feedJpa,
+                itemRepositoryJpa, new ItemRequestMapperImpl(), new ItemMapperImpl()), matchingService,
+                matchingQueue);
     }
 
     @Test
@@ -56,6 +68,7 @@ class ItemRequestServiceImplTest {
                 () -> requestService.saveItemRequest(id, requestDto));
         assertEquals("Пользователя с id = " + id + " не найден", ex.getMessage());
         verify(requestJpa, never()).save(any(ItemRequest.class));
+        verify(matchingQueue, never()).submit(any(ItemRequest.class));
     }
 
     @Test
@@ -76,13 +89,18 @@ class ItemRequestServiceImplTest {
         assertEquals(requestsExpected.getCreated(), requestsActual.getCreated());
         assertEquals(requestsExpected.getItems(), requestsActual.getItems());
         verify(requestJpa, atLeast(1)).save(any(ItemRequest.class));
+        ArgumentCaptor<ItemRequestFeed> feed = ArgumentCaptor.forClass(ItemRequestFeed.class);
+        verify(feedJpa).save(feed.capture());
+        assertEquals(1L, feed.getValue().getRequestId());
+        assertEquals(1L, feed.getValue().getOwnerId());
+        assertEquals(List.of(), feed.getValue().getItems());
+        verify(matchingQueue).submit(requestSave);
     }
 
     @Test
     void getRequestsToUserTestThrowsNotFoundDataExceptionUser() {
         long userId = 1L;
-        when(userService.getUser(anyLong()))
-                .thenThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> requestService.getRequestsToUser(userId));
@@ -94,14 +112,12 @@ class ItemRequestServiceImplTest {
         long userId = 1L;
         LocalDateTime created1 = LocalDateTime.now();
         LocalDateTime created2 = LocalDateTime.now();
-        User user = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        ItemRequest request1 = new ItemRequest(1L, "Описание 1", created1, user);
-        ItemRequest request2 = new ItemRequest(2L, "Описание 2", created2, user);
-        List<ItemRequest> requests = new ArrayList<>();
+        ItemRequestFeed request1 = new ItemRequestFeed(1L, 2L, "Описание 1", created1, null);
+        ItemRequestFeed request2 = new ItemRequestFeed(2L, 2L, "Описание 2", created2, null);
+        List<ItemRequestFeed> requests = new ArrayList<>();
         requests.add(request1);
         requests.add(request2);
-        when(userService.getUser(anyLong())).thenReturn(user);
-        when(requestJpa.findItemRequestByOwner_IdOrderByCreatedDesc(anyLong())).thenReturn(requests);
+        when(feedJpa.findFeedByOwnerId(userId)).thenReturn(requests);
         when(itemRepositoryJpa.findByRequest_IdIn(anyList())).thenReturn(new ArrayList<>());
         ItemRequestsResponseDto requestResponseDto1 = new ItemRequestsResponseDto(1L, "Описание 1",
                 created1, new ArrayList<>());
@@ -124,23 +140,17 @@ class ItemRequestServiceImplTest {
         long userId = 1L;
         LocalDateTime created1 = LocalDateTime.now();
         LocalDateTime created2 = LocalDateTime.now();
-        User user = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        ItemRequest request1 = new ItemRequest(1L, "Описание 1", created1, user);
-        ItemRequest request2 = new ItemRequest(2L, "Описание 2", created2, user);
-        List<ItemRequest> requests = new ArrayList<>();
+        ItemRequestFeed request1 = new ItemRequestFeed(1L, 2L, "Описание 1", created1, null);
+        ItemRequestFeed request2 = new ItemRequestFeed(2L, 2L, "Описание 2", created2, null);
+        List<ItemRequestFeed> requests = new ArrayList<>();
         requests.add(request1);
         requests.add(request2);
-        Item item = new Item(1L, "Предмет 1", "Описание 1", true,
-                user, request1);
-        List<Item> items = new ArrayList<>();
-        items.add(item);
         List<ItemToRequestResponse> itemsResponse = new ArrayList<>();
         ItemToRequestResponse itemResponse = new ItemToRequestResponse(1L, "Предмет 1",
                 "Описание 1", true, 1L);
         itemsResponse.add(itemResponse);
-        when(userService.getUser(anyLong())).thenReturn(user);
-        when(requestJpa.findItemRequestByOwner_IdOrderByCreatedDesc(anyLong())).thenReturn(requests);
-        when(itemRepositoryJpa.findByRequest_IdIn(anyList())).thenReturn(items);
+        when(feedJpa.findFeedByOwnerId(userId)).thenReturn(requests);
+        when(itemRepositoryJpa.findByRequest_IdIn(anyList())).thenReturn(itemsResponse);
         ItemRequestsResponseDto requestResponseDto1 = new ItemRequestsResponseDto(1L, "Описание 1",
                 created1, itemsResponse);
         ItemRequestsResponseDto requestResponseDto2 = new ItemRequestsResponseDto(2L, "Описание 2",
@@ -167,11 +177,24 @@ class ItemRequestServiceImplTest {
         assertEquals(requestResponseDto2.getItems(), requestsResponseDto.get(1).getItems());
     }
 
+    @Test
+    void getRequestsToUserTestPrecomputedFeed() {
+        long userId = 1L;
+        LocalDateTime created = LocalDateTime.now();
+        ItemToRequestResponse answer = new ItemToRequestResponse(1L, "Предмет 1", "Описание 1", true, 1L);
+        when(feedJpa.findFeedByOwnerId(userId)).thenReturn(List.of(
+                new ItemRequestFeed(1L, userId, "Описание 1", created, List.of(answer)),
+                new ItemRequestFeed(2L, userId, "Описание 2", created, List.of())));
+        List<ItemRequestsResponseDto> requestsResponseDto = requestService.getRequestsToUser(userId);
+        assertEquals(List.of(new ItemRequestsResponseDto(1L, "Описание 1", created, List.of(answer)),
+                new ItemRequestsResponseDto(2L, "Описание 2", created, List.of())), requestsResponseDto);
+        verify(itemRepositoryJpa, never()).findByRequest_IdIn(anyList());
+    }
+
     @Test
     void getRequestsToAnotherUsersTestThrowsNotFoundDataException() {
         long userId = 1L;
-        when(userService.getUser(anyLong()))
-                .thenThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> requestService.getRequestsToAnotherUsers(1L, 0, 20));
@@ -181,18 +204,15 @@ class ItemRequestServiceImplTest {
     @Test
     void getRequestsToAnotherUsersTestNotItems() {
         long userId = 1L;
-        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        User user2 = new User(2L, "Пользователь 2", "user2@yandex.ru");
-        User user3 = new User(3L, "Пользователь 3", "user3@yandex.ru");
         LocalDateTime created1 = LocalDateTime.now();
         LocalDateTime created2 = LocalDateTime.now();
-        ItemRequest request1 = new ItemRequest(1L, "Описание 1", created1, user2);
-        ItemRequest request2 = new ItemRequest(2L, "Описание 2", created2, user3);
-        List<ItemRequest> requests = new ArrayList<>();
+        ItemRequestFeed request1 = new ItemRequestFeed(1L, 2L, "Описание 1", created1, null);
+        ItemRequestFeed request2 = new ItemRequestFeed(2L, 2L, "Описание 2", created2, null);
+        List<ItemRequestFeed> requests = new ArrayList<>();
         requests.add(request1);
         requests.add(request2);
-        when(userService.getUser(userId)).thenReturn(user1);
-        when(requestJpa.findItemRequestNotByOwner_IdOrderByCreatedDesc(anyLong())).thenReturn(requests);
+        when(feedJpa.findFeedNotByOwnerId(userId, OffsetPageRequest.of(0, 20)))
+                .thenReturn(requests);
         ItemRequestsResponseDto requestResponseDto1 = new ItemRequestsResponseDto(1L, "Описание 1",
                 created1, new ArrayList<>());
         ItemRequestsResponseDto requestResponseDto2 = new ItemRequestsResponseDto(2L, "Описание 2",
@@ -213,27 +233,20 @@ class ItemRequestServiceImplTest {
     @Test
     void getRequestsToAnotherUsersTestOneItems() {
         long userId = 1L;
-        User user1 = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        User user2 = new User(2L, "Пользователь 2", "user2@yandex.ru");
-        User user3 = new User(3L, "Пользователь 3", "user3@yandex.ru");
         LocalDateTime created1 = LocalDateTime.now();
         LocalDateTime created2 = LocalDateTime.now();
-        ItemRequest request1 = new ItemRequest(1L, "Описание 1", created1, user2);
-        ItemRequest request2 = new ItemRequest(2L, "Описание 2", created2, user3);
-        List<ItemRequest> requests = new ArrayList<>();
+        ItemRequestFeed request1 = new ItemRequestFeed(1L, 2L, "Описание 1", created1, null);
+        ItemRequestFeed request2 = new ItemRequestFeed(2L, 2L, "Описание 2", created2, null);
+        List<ItemRequestFeed> requests = new ArrayList<>();
         requests.add(request1);
         requests.add(request2);
-        Item item = new Item(1L, "Предмет 1", "Описание 1", true,
-                user1, request2);
-        List<Item> items = new ArrayList<>();
-        items.add(item);
         List<ItemToRequestResponse> itemsResponse = new ArrayList<>();
         ItemToRequestResponse itemResponse = new ItemToRequestResponse(1L, "Предмет 1",
                 "Описание 1", true, 2L);
         itemsResponse.add(itemResponse);
-        when(userService.getUser(userId)).thenReturn(user1);
-        when(requestJpa.findItemRequestNotByOwner_IdOrderByCreatedDesc(anyLong())).thenReturn(requests);
-        when(itemRepositoryJpa.findByRequest_IdIn(anyList())).thenReturn(items);
+        when(feedJpa.findFeedNotByOwnerId(userId, OffsetPageRequest.of(0, 20)))
+                .thenReturn(requests);
+        when(itemRepositoryJpa.findByRequest_IdIn(anyList())).thenReturn(itemsResponse);
         ItemRequestsResponseDto requestResponseDto1 = new ItemRequestsResponseDto(1L, "Описание 1",
                 created1, new ArrayList<>());
         ItemRequestsResponseDto requestResponseDto2 = new ItemRequestsResponseDto(2L, "Описание 2",
@@ -265,8 +278,7 @@ class ItemRequestServiceImplTest {
     void getRequestTestThrowsNotFoundDataExceptionUser() {
         long requestId = 1L;
         long userId = 2L;
-        when(userService.getUser(anyLong()))
-                .thenThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден"));
+        doThrow(new NotFoundDataException("Пользователя с id = " + userId + " не найден")).when(userService).validateUser(anyLong());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> requestService.getRequest(userId, requestId));
@@ -278,7 +290,6 @@ class ItemRequestServiceImplTest {
         long requestId = 1L;
         long userId = 2L;
         User user = new User(1L, "Пользователь 1", "user1@yandex.ru");
-        when(userService.getUser(anyLong())).thenReturn(user);
         when(requestJpa.findById(anyLong())).thenReturn(Optional.empty());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
@@ -295,7 +306,6 @@ class ItemRequestServiceImplTest {
         ItemRequest request = new ItemRequest(1L, "Описание 1", created, user);
         ItemRequestsResponseDto requestsExpected = new ItemRequestsResponseDto(1L, "Описание 1",
                 created, new ArrayList<>());
-        when(userService.getUser(anyLong())).thenReturn(user);
         when(requestJpa.findById(anyLong())).thenReturn(Optional.of(request));
         ItemRequestsResponseDto requestsActual = requestService.getRequest(userId, requestId);
         assertEquals(requestsExpected.getId(), requestsActual.getId());
@@ -315,7 +325,6 @@ class ItemRequestServiceImplTest {
                 user, request);
         List<Item> items = new ArrayList<>();
         items.add(item);
-        when(userService.getUser(anyLong())).thenReturn(user);
         when(requestJpa.findById(anyLong())).thenReturn(Optional.of(request));
         when(itemRepositoryJpa.findByRequest_Id(anyLong())).thenReturn(items);
         List<ItemToRequestResponse> itemsResponse = new ArrayList<>();
@@ -338,4 +347,24 @@ class ItemRequestServiceImplTest {
         assertEquals(requestsExpected.getItems().get(0).getRequestId(),
                 requestsActual.getItems().get(0).getRequestId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getSuggestionsTestThrowsNotFoundDataExceptionRequest() {
+        when(requestJpa.existsById(1L)).thenReturn(false);
+        NotFoundDataException ex = assertThrows(
+                NotFoundDataException.class,
+                () -> requestService.getSuggestions(2L, 1L));
+        assertEquals("Запроса с id = 1 не существует", ex.getMessage());
+        verify(matchingService, never()).getSuggestions(anyLong());
+    }
+
+    @Test
+    void getSuggestionsTest() {
+        List<ItemToRequestResponse> suggestions = List.of(
+                new ItemToRequestResponse(3L, "Дрель", "Ударная дрель", true, null));
+        when(requestJpa.existsById(1L)).thenReturn(true);
+        when(matchingService.getSuggestions(1L)).thenReturn(suggestions);
+        assertEquals(suggestions, requestService.getSuggestions(2L, 1L));
+        verify(userService).validateUser(2L);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.statistics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManagerFactory;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public abstract class AbstractQueryCountTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected long countStatements(String name, Runnable action) {
+        entityManagerFactory.getCache().evictAll();
+        return countCachedStatements(name, action);
+    }
+
+    protected long countCachedStatements(String name, Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        log.info("{}: {} statements", name, statistics.getPrepareStatementCount());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -7,21 +7,28 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserImportService;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = UserController.class)
 class UserControllerTest {
@@ -29,18 +36,20 @@ class UserControllerTest {
     private ObjectMapper mapper;
     @MockBean
     private UserService service;
+    @MockBean
+    private UserImportService importService;
     @Autowired
     private MockMvc mvc;
 
     @Test
     void getAllUserTest() throws Exception {
-        when(service.getAllUser())
+        when(service.getUsers(0L, 100L))
                 .thenAnswer(invocationOnMock -> {
                     List<User> usersResponse = new ArrayList<>();
                     usersResponse.add(new User(1L, "Пользователь 1", "user1@yandex.ru"));
                     usersResponse.add(new User(2L, "Пользователь 2", "user2@yandex.ru"));
-                    usersResponse.add(new User(1L, "Пользователь 2", "user2@yandex.ru"));
-                    return usersResponse;
+                    usersResponse.add(new User(3L, "Пользователь 3", "user3@yandex.ru"));
+                    return new CursorPage<>(usersResponse, null);
                 });
 
         mvc.perform(get("/users")
@@ -48,9 +57,47 @@ class UserControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$.length()", is(3)));
     }
 
+    @Test
+    void getAllUserTestWithCursor() throws Exception {
+        when(service.getUsers(5L, 2L))
+                .thenReturn(new CursorPage<>(List.of(new User(6L, "Пользователь 6", "user6@yandex.ru"),
+                        new User(7L, "Пользователь 7", "user7@yandex.ru")), "7"));
+
+        mvc.perform(get("/users")
+                        .param("cursor", "5")
+                        .param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "7"))
+                .andExpect(jsonPath("$[0].id", is(6)));
+    }
+
+    @Test
+    void streamUsersTest() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(new User(1L, "Пользователь 1", "user1@yandex.ru"));
+            consumer.accept(new User(2L, "Пользователь 2", "user2@yandex.ru"));
+            return null;
+        }).when(service).streamUsers(any());
+
+        MvcResult result = mvc.perform(get("/users/stream")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals("{\"id\":1,\"name\":\"Пользователь 1\",\"email\":\"user1@yandex.ru\"}\n"
+                        + "{\"id\":2,\"name\":\"Пользователь 2\",\"email\":\"user2@yandex.ru\"}", body);
+    }
+
     @Test
     void getUserTest() throws Exception {
         when(service.getUser(anyLong()))
@@ -191,4 +238,31 @@ class UserControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveUsersTest() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ImportResultDto> results = invocation.getArgument(1);
+            results.accept(new ImportResultDto(1L, 1L, null));
+            results.accept(new ImportResultDto(2L, null, "Email user1@yandex.ru уже указан в строке 1"));
+            return new ImportSummary(2, 1);
+        }).when(importService).importUsers(any(), any());
+
+        MvcResult result = mvc.perform(post("/users/bulk")
+                        .content("[{\"name\":\"Пользователь 1\",\"email\":\"user1@yandex.ru\"},"
+                                + "{\"name\":\"Пользователь 2\",\"email\":\"user1@yandex.ru\"}]")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].row", is(1)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].row", is(2)))
+                .andExpect(jsonPath("$[1].error", is("Email user1@yandex.ru уже указан в строке 1")));
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.response.UserRepositoryJpa;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserEmailFilterTest {
+    @Mock
+    private UserRepositoryJpa repositoryJpa;
+
+    @Test
+    void bloomFilterHasNoFalseNegativesTest() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@yandex.ru");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@yandex.ru"));
+        }
+    }
+
+    @Test
+    void bloomFilterFalsePositiveRateTest() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@yandex.ru");
+        }
+        long falsePositives = LongStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other" + i + "@mail.ru"))
+                .count();
+        assertTrue(falsePositives < 2_000, "ложных срабатываний " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void rebuildLoadsAllEmailsTest() {
+        List<User> page = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new User(id, "Пользователь " + id, "user" + id + "@yandex.ru"))
+                .collect(Collectors.toList());
+        when(repositoryJpa.count()).thenReturn(501L);
+        when(repositoryJpa.findUserAfter(0L, OffsetPageRequest.of(0, 500))).thenReturn(page);
+        when(repositoryJpa.findUserAfter(500L, OffsetPageRequest.of(0, 500)))
+                .thenReturn(List.of(new User(501L, "Пользователь 501", "user501@yandex.ru")));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserEmailFilter emailFilter = new UserEmailFilter(repositoryJpa, registry, 1000, 0.01);
+
+        emailFilter.rebuild();
+
+        assertTrue(emailFilter.mightContain("user1@yandex.ru"));
+        assertTrue(emailFilter.mightContain("user501@yandex.ru"));
+        assertFalse(emailFilter.mightContain("user0@yandex.ru"));
+        emailFilter.recordFalsePositives(1);
+        assertEquals(2.0, registry.get("shareit.user.email.filter").tag("result", "present").counter().count());
+        assertEquals(1.0, registry.get("shareit.user.email.filter").tag("result", "absent").counter().count());
+        assertEquals(1.0, registry.get("shareit.user.email.filter.false.positives").counter().count());
+        assertTrue(registry.get("shareit.user.email.filter.expected.fpp").gauge().value() < 0.01);
+    }
+}
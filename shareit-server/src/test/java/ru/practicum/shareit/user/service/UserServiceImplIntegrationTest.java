@@ -4,15 +4,38 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.bulk.ImportSummary;
+import ru.practicum.shareit.exception.DuplicateEmailException;
 import ru.practicum.shareit.exception.NotFoundDataException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 @SpringBootTest
 class UserServiceImplIntegrationTest {
     @Autowired
     private UserService userService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRequestService requestService;
+    @Autowired
+    private UserImportService importService;
 
     @Test
     @DirtiesContext
@@ -94,9 +117,31 @@ class UserServiceImplIntegrationTest {
     void removeUserTest() {
         UserDto userDto = new UserDto("Пользователь 1", "user1@yandex.ru");
         userService.saveUser(userDto);
-        assertEquals(1, userService.getAllUser().size());
+        assertEquals(1, allUsers().size());
         userService.removeUser(1L);
-        assertEquals(0, userService.getAllUser().size());
+        assertEquals(0, allUsers().size());
+    }
+
+    @Test
+    @DirtiesContext
+    void removeUserTestEvictsCascadedItemsAndRequests() {
+        long removedId = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru")).getId();
+        long userId = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru")).getId();
+        long ownItemId = itemService.saveItem(new ItemDto(null, "Дрель", "Дрель", true, null, null, null, null),
+                removedId).getId();
+        long requestId = requestService.saveItemRequest(removedId, new ItemRequestDto("Нужна пила",
+                LocalDateTime.now())).getId();
+        long answerId = itemService.saveItem(new ItemDto(null, "Пила", "Пила", true, null, null, null, requestId),
+                userId).getId();
+        assertEquals(ownItemId, itemService.getItem(ownItemId, userId).getId());
+        assertEquals(answerId, itemService.getItem(answerId, userId).getId());
+        assertEquals(1, requestService.getRequest(userId, requestId).getItems().size());
+
+        userService.removeUser(removedId);
+
+        assertThrows(NotFoundDataException.class, () -> itemService.getItem(ownItemId, userId));
+        assertThrows(NotFoundDataException.class, () -> itemService.getItem(answerId, userId));
+        assertThrows(NotFoundDataException.class, () -> requestService.getRequest(userId, requestId));
     }
 
     @Test
@@ -104,7 +149,7 @@ class UserServiceImplIntegrationTest {
     void removeUserTestThrowsNotFoundDataException() {
         UserDto userDto = new UserDto("Пользователь 1", "user1@yandex.ru");
         userService.saveUser(userDto);
-        assertEquals(1, userService.getAllUser().size());
+        assertEquals(1, allUsers().size());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> userService.removeUser(2L)
@@ -142,7 +187,7 @@ class UserServiceImplIntegrationTest {
         UserDto userDto = new UserDto("Пользователь 1", "user1@yandex.ru");
         userService.saveUser(userDto);
         User user = userService.getUser(1L);
-        assertEquals(1, userService.getAllUser().size());
+        assertEquals(1, allUsers().size());
         userService.removeUser(1L);
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
@@ -153,29 +198,120 @@ class UserServiceImplIntegrationTest {
 
     @Test
     @DirtiesContext
-    void getAllUserTestNull() {
-        assertEquals(0, userService.getAllUser().size());
+    void streamAllUsersTestNull() {
+        assertEquals(0, allUsers().size());
     }
 
     @Test
     @DirtiesContext
-    void getAllUserTestTwo() {
+    void streamAllUsersTestTwo() {
         UserDto user1Dto = new UserDto("Пользователь 1", "user1@yandex.ru");
         UserDto user2Dto = new UserDto("Пользователь 2", "user2@yandex.ru");
         userService.saveUser(user1Dto);
         userService.saveUser(user2Dto);
-        assertEquals(2, userService.getAllUser().size());
+        assertEquals(2, allUsers().size());
     }
 
     @Test
     @DirtiesContext
-    void getAllUserTestOne() {
+    void streamAllUsersTestOne() {
         UserDto user1Dto = new UserDto("Пользователь 1", "user1@yandex.ru");
         UserDto user2Dto = new UserDto("Пользователь 2", "user2@yandex.ru");
         userService.saveUser(user1Dto);
         userService.saveUser(user2Dto);
-        assertEquals(2, userService.getAllUser().size());
+        assertEquals(2, allUsers().size());
         userService.removeUser(1L);
-        assertEquals(1, userService.getAllUser().size());
+        assertEquals(1, allUsers().size());
+    }
+
+    @Test
+    @DirtiesContext
+    void saveUsersTest() {
+        userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        Map<Long, UserDto> rows = new LinkedHashMap<>();
+        rows.put(1L, new UserDto("Пользователь 1", "user1@yandex.ru"));
+        rows.put(2L, new UserDto("Пользователь 2", "user2@yandex.ru"));
+        rows.put(3L, new UserDto("Пользователь 3", "user2@yandex.ru"));
+        rows.put(4L, new UserDto("Пользователь 4", "user4@yandex.ru"));
+
+        List<ImportResultDto> results = userService.saveUsers(rows);
+
+        assertNotNull(results.get(0).getError());
+        assertNotNull(results.get(1).getId());
+        assertNotNull(results.get(2).getError());
+        assertNotNull(results.get(3).getId());
+        assertEquals(List.of("user1@yandex.ru", "user2@yandex.ru", "user4@yandex.ru"), allUsers()
+                .stream().map(User::getEmail).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DirtiesContext
+    void importUsersTestRetriesBatchRejectedByDatabase() {
+        String longName = "П".repeat(101);
+        List<ImportResultDto> results = new ArrayList<>();
+
+        ImportSummary summary = importService.importUsers(new ByteArrayInputStream((
+                "{\"name\":\"Пользователь 1\",\"email\":\"user1@yandex.ru\"}\n"
+                        + "{\"name\":\"" + longName + "\",\"email\":\"user2@yandex.ru\"}\n"
+                        + "{\"name\":\"Пользователь 3\",\"email\":\"user3@yandex.ru\"}\n")
+                .getBytes(StandardCharsets.UTF_8)), results::add);
+
+        assertEquals(new ImportSummary(3, 1), summary);
+        assertEquals(List.of(1L, 2L, 3L), results.stream().map(ImportResultDto::getRow).collect(Collectors.toList()));
+        assertNotNull(results.get(0).getId());
+        assertNotNull(results.get(1).getError());
+        assertNotNull(results.get(2).getId());
+        assertEquals(List.of("user1@yandex.ru", "user3@yandex.ru"), emails(allUsers()));
+    }
+
+    @Test
+    @DirtiesContext
+    void saveUserTestThrowsDuplicateEmailException() {
+        userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+        User user2 = userService.saveUser(new UserDto("Пользователь 2", "user2@yandex.ru"));
+        assertThrows(DuplicateEmailException.class,
+                () -> userService.saveUser(new UserDto("Пользователь 3", "user1@yandex.ru")));
+        assertThrows(DuplicateEmailException.class,
+                () -> userService.updateUser(user2.getId(), new UserDto(null, "user1@yandex.ru")));
+        assertEquals("user2@yandex.ru",
+                userService.updateUser(user2.getId(), new UserDto(null, "user2@yandex.ru")).getEmail());
+        assertEquals(2, allUsers().size());
+    }
+
+    @Test
+    @DirtiesContext
+    void getUsersTest() {
+        for (int i = 1; i <= 5; i++) {
+            userService.saveUser(new UserDto("Пользователь " + i, "user" + i + "@yandex.ru"));
+        }
+        CursorPage<User> first = userService.getUsers(0, 2);
+        CursorPage<User> second = userService.getUsers(Long.parseLong(first.getNextCursor()), 2);
+        CursorPage<User> last = userService.getUsers(Long.parseLong(second.getNextCursor()), 2);
+
+        assertEquals(List.of("user1@yandex.ru", "user2@yandex.ru"), emails(first.getContent()));
+        assertEquals(List.of("user3@yandex.ru", "user4@yandex.ru"), emails(second.getContent()));
+        assertEquals(List.of("user5@yandex.ru"), emails(last.getContent()));
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    @DirtiesContext
+    void streamUsersTest() {
+        for (int i = 1; i <= 3; i++) {
+            userService.saveUser(new UserDto("Пользователь " + i, "user" + i + "@yandex.ru"));
+        }
+        List<User> users = new ArrayList<>();
+        userService.streamUsers(users::add);
+        assertEquals(List.of("user1@yandex.ru", "user2@yandex.ru", "user3@yandex.ru"), emails(users));
+    }
+
+    private List<User> allUsers() {
+        List<User> users = new ArrayList<>();
+        userService.streamUsers(users::add);
+        return users;
+    }
+
+    private static List<String> emails(List<User> users) {
+        return users.stream().map(User::getEmail).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.user.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.statistics.AbstractQueryCountTest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserServiceImplQueryCountTest extends AbstractQueryCountTest {
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void updateUserQueryCountTest() {
+        User user = userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru"));
+
+        assertEquals(2, countStatements("updateUser name", () -> assertEquals("user1@yandex.ru",
+                userService.updateUser(user.getId(), new UserDto("Пользователь 2", null)).getEmail())));
+        assertEquals(2, countStatements("updateUser email", () -> assertEquals("Пользователь 2",
+                userService.updateUser(user.getId(), new UserDto(null, "user2@yandex.ru")).getName())));
+        assertEquals(2, countStatements("updateUser name and email", () -> userService.updateUser(user.getId(),
+                new UserDto("Пользователь 3", "user3@yandex.ru"))));
+    }
+}
@@ -1,22 +1,34 @@
 package ru.practicum.shareit.user.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.bulk.ImportResultDto;
+import ru.practicum.shareit.cache.HibernateCacheEvictor;
+import ru.practicum.shareit.exception.DuplicateEmailException;
 import ru.practicum.shareit.exception.NotFoundDataException;
+import ru.practicum.shareit.item.search.ItemSearchCleaner;
+import ru.practicum.shareit.request.service.ItemRequestFeedService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.mapper.UserMapperImpl;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.response.UserRepositoryJpa;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
@@ -27,10 +39,20 @@ class UserServiceImplTest {
     private UserService userService;
     @Mock
     private UserRepositoryJpa repositoryJpa;
+    @Mock
+    private ItemRequestFeedService feedService;
+    @Mock
+    private ItemSearchCleaner searchCleaner;
+    @Mock
+    private HibernateCacheEvictor cacheEvictor;
+    private UserEmailFilter emailFilter;
 
     @BeforeEach
     public void setUp() {
-        userService = new UserServiceImpl(new UserMapperImpl(), repositoryJpa);
+        emailFilter = new UserEmailFilter(repositoryJpa, new SimpleMeterRegistry(), 1000, 0.01);
+        userService = new UserServiceImpl(new UserMapperImpl(), repositoryJpa,
+                new UserCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)), emailFilter,
+                feedService, searchCleaner, cacheEvictor);
     }
 
     @Test
@@ -41,14 +63,75 @@ class UserServiceImplTest {
         User user = userService.saveUser(userDto);
         assertEquals(user1, user);
         verify(repositoryJpa).save(any(User.class));
+        verify(repositoryJpa, never()).existsByEmail(any());
+        assertTrue(emailFilter.mightContain("user1@yandex.ru"));
+    }
+
+    @Test
+    void saveUserTestThrowsDuplicateEmailException() {
+        emailFilter.put("user1@yandex.ru");
+        when(repositoryJpa.existsByEmail("user1@yandex.ru")).thenReturn(true);
+        DuplicateEmailException ex = assertThrows(
+                DuplicateEmailException.class,
+                () -> userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru")));
+        assertEquals("Пользователь с email = user1@yandex.ru уже существует", ex.getMessage());
+        verify(repositoryJpa, never()).save(any(User.class));
+    }
+
+    @Test
+    void saveUserTestFalsePositiveChecksDatabase() {
+        emailFilter.put("user1@yandex.ru");
+        when(repositoryJpa.existsByEmail("user1@yandex.ru")).thenReturn(false);
+        when(repositoryJpa.save(any(User.class))).thenReturn(new User(1L, "Пользователь 1", "user1@yandex.ru"));
+        assertEquals(1L, userService.saveUser(new UserDto("Пользователь 1", "user1@yandex.ru")).getId());
+        verify(repositoryJpa).existsByEmail("user1@yandex.ru");
+    }
+
+    @Test
+    void saveUsersTest() {
+        Map<Long, UserDto> rows = new LinkedHashMap<>();
+        rows.put(1L, new UserDto("Пользователь 1", "user1@yandex.ru"));
+        rows.put(2L, new UserDto("Пользователь 2", "user2@yandex.ru"));
+        rows.put(3L, new UserDto("Пользователь 3", "user1@yandex.ru"));
+        rows.put(4L, new UserDto("Пользователь 4", "user4@yandex.ru"));
+        emailFilter.put("user2@yandex.ru");
+        when(repositoryJpa.findEmailByEmailIn(Set.of("user2@yandex.ru"))).thenReturn(List.of("user2@yandex.ru"));
+        when(repositoryJpa.saveAll(anyCollection())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).setId(10L + i);
+            }
+            return users;
+        });
+
+        List<ImportResultDto> results = userService.saveUsers(rows);
+
+        assertEquals(List.of(new ImportResultDto(1L, 10L, null),
+                new ImportResultDto(2L, null, "Пользователь с email = user2@yandex.ru уже существует"),
+                new ImportResultDto(3L, null, "Email user1@yandex.ru уже указан в строке 1"),
+                new ImportResultDto(4L, 11L, null)), results);
+        verify(repositoryJpa, times(1)).findEmailByEmailIn(anyCollection());
+        verify(repositoryJpa, never()).save(any(User.class));
+        assertTrue(emailFilter.mightContain("user4@yandex.ru"));
+    }
+
+    @Test
+    void saveUsersTestSkipsQueryWhenFilterIsEmpty() {
+        Map<Long, UserDto> rows = new LinkedHashMap<>();
+        rows.put(1L, new UserDto("Пользователь 1", "user1@yandex.ru"));
+        when(repositoryJpa.saveAll(anyCollection()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.getArgument(0, Collection.class)));
+
+        userService.saveUsers(rows);
+
+        verify(repositoryJpa, never()).findEmailByEmailIn(anyCollection());
     }
 
     @Test
     void updateUserTestThrowsNotFoundDataException() {
         UserDto userDto = new UserDto("Пользователь 1", "user1@yandex.ru");
         Long id = 1L;
-        when(repositoryJpa.existsById(anyLong()))
-                .thenThrow(new NotFoundDataException("Пользователя с id = " + id + " не найден"));
+        when(repositoryJpa.findById(id)).thenReturn(Optional.empty());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> userService.updateUser(id, userDto));
@@ -61,11 +144,12 @@ class UserServiceImplTest {
         Long id = 1L;
         Optional<User> lastUser = Optional.of(new User(1L, "Пользователь 1", "user1@yandex.ru"));
         User userUpdate = new User(id,"Пользователь 1 обновленный", "user1@yandex.ru");
-        when(repositoryJpa.existsById(anyLong())).thenReturn(true);
         when(repositoryJpa.findById(anyLong())).thenReturn(lastUser);
         when(repositoryJpa.save(any(User.class))).thenReturn(userUpdate);
         assertEquals(userUpdate, userService.updateUser(id, userDto));
         verify(repositoryJpa).save(any(User.class));
+        verify(repositoryJpa).findById(id);
+        verify(repositoryJpa, never()).existsById(anyLong());
     }
 
     @Test
@@ -74,11 +158,12 @@ class UserServiceImplTest {
         Long id = 1L;
         Optional<User> lastUser = Optional.of(new User(1L, "Пользователь 1", "user1@yandex.ru"));
         User userUpdate = new User(id,"Пользователь 1", "user1update@yandex.ru");
-        when(repositoryJpa.existsById(anyLong())).thenReturn(true);
         when(repositoryJpa.findById(anyLong())).thenReturn(lastUser);
         when(repositoryJpa.save(any(User.class))).thenReturn(userUpdate);
         assertEquals(userUpdate, userService.updateUser(id, userDto));
         verify(repositoryJpa).save(any(User.class));
+        verify(repositoryJpa).findById(id);
+        verify(repositoryJpa, never()).existsById(anyLong());
     }
 
     @Test
@@ -87,11 +172,23 @@ class UserServiceImplTest {
         Long id = 1L;
         Optional<User> lastUser = Optional.of(new User(1L, "Пользователь 1", "user1@yandex.ru"));
         User userUpdate = new User(id,"Пользователь 1 обновленный", "user1update@yandex.ru");
-        when(repositoryJpa.existsById(anyLong())).thenReturn(true);
+        when(repositoryJpa.findById(anyLong())).thenReturn(lastUser);
         when(repositoryJpa.save(any(User.class))).thenReturn(userUpdate);
         assertEquals(userUpdate, userService.updateUser(id, userDto));
         verify(repositoryJpa).save(any(User.class));
-        verify(repositoryJpa, never()).findById(anyLong());
+        verify(repositoryJpa).findById(id);
+        verify(repositoryJpa, never()).existsById(anyLong());
+    }
+
+    @Test
+    void updateUserTestThrowsDuplicateEmailException() {
+        emailFilter.put("user2@yandex.ru");
+        when(repositoryJpa.findById(1L))
+                .thenReturn(Optional.of(new User(1L, "Пользователь 1", "user1@yandex.ru")));
+        when(repositoryJpa.existsByEmailAndIdNot("user2@yandex.ru", 1L)).thenReturn(true);
+        assertThrows(DuplicateEmailException.class,
+                () -> userService.updateUser(1L, new UserDto(null, "user2@yandex.ru")));
+        verify(repositoryJpa, never()).save(any(User.class));
     }
 
     @Test
@@ -101,11 +198,11 @@ class UserServiceImplTest {
         Optional<User> lastUser = Optional.of(new User(1L, "Пользователь 1", "user1@yandex.ru"));
         User userUpdate = new User(id,"Пользователь 1", "user1@yandex.ru");
         when(repositoryJpa.findById(anyLong())).thenReturn(lastUser);
-        when(repositoryJpa.existsById(anyLong())).thenReturn(true);
         when(repositoryJpa.save(any(User.class))).thenReturn(userUpdate);
         assertEquals(userUpdate, userService.updateUser(id, userDto));
         verify(repositoryJpa).save(any(User.class));
-        verify(repositoryJpa, atLeast(2)).findById(anyLong());
+        verify(repositoryJpa, times(1)).findById(anyLong());
+        verify(repositoryJpa, never()).existsById(anyLong());
     }
 
     @Test
@@ -122,8 +219,7 @@ class UserServiceImplTest {
     @Test
     void getUserTestThrowsNotFoundDataException() {
         Long id = 1L;
-        when(repositoryJpa.existsById(anyLong()))
-                .thenThrow(new NotFoundDataException("Пользователя с id = " + id + " не найден"));
+        when(repositoryJpa.findById(anyLong())).thenReturn(Optional.empty());
         NotFoundDataException ex = assertThrows(
                 NotFoundDataException.class,
                 () -> userService.getUser(id));
@@ -134,26 +230,47 @@ class UserServiceImplTest {
     void getUserTest() {
         Long id = 1L;
         User user = new User(id,"Пользователь 1 обновленный", "user1update@yandex.ru");
-        when(repositoryJpa.existsById(anyLong())).thenReturn(true);
         when(repositoryJpa.findById(anyLong())).thenReturn(Optional.of(user));
         assertEquals(user, userService.getUser(id));
+        verify(repositoryJpa, never()).existsById(anyLong());
     }
 
     @Test
-    void getAllUserTestTwo() {
-        User user1 = new User(1L,"Пользователь 1", "user1@yandex.ru");
-        User user2 = new User(2L,"Пользователь 2", "user2@yandex.ru");
-        List<User> users = new ArrayList<>();
-        users.add(user1);
-        users.add(user2);
-        when(repositoryJpa.findAll()).thenReturn(users);
-        assertEquals(users, userService.getAllUser());
+    void getUserTestServedFromCache() {
+        Long id = 1L;
+        when(repositoryJpa.findById(id)).thenReturn(Optional.of(new User(id, "Пользователь 1", "user1@yandex.ru")));
+        userService.getUser(id);
+        User cached = userService.getUser(id);
+        assertEquals("Пользователь 1", cached.getName());
+        assertEquals("user1@yandex.ru", cached.getEmail());
+        userService.validateUser(id);
+        verify(repositoryJpa, times(1)).findById(id);
+        verify(repositoryJpa, never()).existsById(anyLong());
     }
 
     @Test
-    void getAllUserTestNull() {
-        List<User> users = new ArrayList<>();
-        when(repositoryJpa.findAll()).thenReturn(users);
-        assertEquals(users, userService.getAllUser());
+    void getUserTestCacheInvalidatedByUpdateAndRemove() {
+        Long id = 1L;
+        when(repositoryJpa.findById(id)).thenReturn(Optional.of(new User(id, "Пользователь 1", "user1@yandex.ru")));
+        when(repositoryJpa.existsById(id)).thenReturn(true);
+        when(repositoryJpa.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        userService.getUser(id);
+        userService.updateUser(id, new UserDto("Пользователь 1 обновленный", "user1update@yandex.ru"));
+        userService.getUser(id);
+        userService.removeUser(id);
+        userService.getUser(id);
+        verify(repositoryJpa, times(4)).findById(id);
+    }
+
+    @Test
+    void validateUserTest() {
+        when(repositoryJpa.existsById(1L)).thenReturn(true);
+        when(repositoryJpa.existsById(2L)).thenReturn(false);
+        userService.validateUser(1L);
+        NotFoundDataException ex = assertThrows(
+                NotFoundDataException.class,
+                () -> userService.validateUser(2L));
+        assertEquals("Пользователя с id = " + 2 + " не найден", ex.getMessage());
+        verify(repositoryJpa, never()).findById(anyLong());
     }
 }
\ No newline at end of file